@@ -0,0 +1,38 @@
+package com.devsolutions.CityParkServices.benchmark;
+
+import com.devsolutions.CityParkServices.jwt.JwtClaims;
+import com.devsolutions.CityParkServices.jwt.JwtToken;
+import com.devsolutions.CityParkServices.jwt.JwtTokenVerifier;
+import com.devsolutions.CityParkServices.jwt.JwtUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private final JwtTokenVerifier verifier = new JwtTokenVerifier();
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        token = JwtUtils.JWT_BEARER + JwtUtils.createToken("ana@email.com", "ADMIN").getToken();
+    }
+
+    @Benchmark
+    public JwtToken createToken() {
+        return JwtUtils.createToken("ana@email.com", "ADMIN");
+    }
+
+    @Benchmark
+    public JwtClaims verificar() {
+        return verifier.verificar(token);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.devsolutions.CityParkServices.benchmark;
+
+import com.devsolutions.CityParkServices.jwt.JwtClaims;
+import com.devsolutions.CityParkServices.jwt.JwtTokenVerifier;
+import com.devsolutions.CityParkServices.jwt.JwtUtils;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição da verificação do token no filtro: duas análises com chave e parser recriados
+ * (fluxo anterior) contra uma única análise com o {@link JwtTokenVerifier}.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtVerificacaoBenchmark {
+
+    private final JwtTokenVerifier verifier = new JwtTokenVerifier();
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        token = JwtUtils.createToken("ana@email.com", "ADMIN").getToken();
+    }
+
+    @Benchmark
+    public String duasAnalisesSemCache() {
+        Jwts.parser().verifyWith(novaChave()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(novaChave()).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public JwtClaims analiseUnica() {
+        return verifier.verificar(token);
+    }
+
+    private static SecretKey novaChave() {
+        return Keys.hmacShaKeyFor(JwtUtils.SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.devsolutions.CityParkServices.benchmark;
+
+import com.devsolutions.CityParkServices.entity.Cliente;
+import com.devsolutions.CityParkServices.entity.ClienteVaga;
+import com.devsolutions.CityParkServices.entity.Usuario;
+import com.devsolutions.CityParkServices.entity.Vaga;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoCreateDto;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoResponseDto;
+import com.devsolutions.CityParkServices.web.dto.PageableDto;
+import com.devsolutions.CityParkServices.web.dto.UsuarioResponseDto;
+import com.devsolutions.CityParkServices.web.dto.mapper.ClienteVagaMapper;
+import com.devsolutions.CityParkServices.web.dto.mapper.PageableMapper;
+import com.devsolutions.CityParkServices.web.dto.mapper.UsuarioMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private EstacionamentoCreateDto createDto;
+    private ClienteVaga clienteVaga;
+    private Usuario usuario;
+    private List<Usuario> usuarios;
+    private Page<UsuarioResponseDto> pagina;
+
+    @Setup
+    public void setup() {
+        createDto = new EstacionamentoCreateDto("ABC-0002", "VOLKSWAGEN", "BRASÍLIA", "AMARELA", "59644826000");
+
+        Cliente cliente = new Cliente();
+        cliente.setId(32L);
+        cliente.setCpf("59644826000");
+        Vaga vaga = new Vaga();
+        vaga.setId(3L);
+        vaga.setCodigo("A-02");
+        clienteVaga = new ClienteVaga();
+        clienteVaga.setId(1L);
+        clienteVaga.setRecibo("0ABCDEFGHIJKL");
+        clienteVaga.setPlaca("ABC-0002");
+        clienteVaga.setMarca("VOLKSWAGEN");
+        clienteVaga.setModelo("BRASÍLIA");
+        clienteVaga.setCor("AMARELA");
+        clienteVaga.setDataEntrada(LocalDateTime.of(2024, 8, 15, 17, 52, 21));
+        clienteVaga.setDataSaida(LocalDateTime.of(2024, 8, 15, 19, 2, 0));
+        clienteVaga.setValor(new BigDecimal("11.00"));
+        clienteVaga.setDesconto(new BigDecimal("0.00"));
+        clienteVaga.setCliente(cliente);
+        clienteVaga.setVaga(vaga);
+
+        usuario = novoUsuario(1L);
+        usuarios = new ArrayList<>();
+        List<UsuarioResponseDto> conteudo = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            usuarios.add(novoUsuario(id));
+            conteudo.add(new UsuarioResponseDto(id, "usuario" + id + "@email.com", "CLIENTE"));
+        }
+        pagina = new PageImpl<>(conteudo, PageRequest.of(0, 20), 200);
+    }
+
+    private static Usuario novoUsuario(long id) {
+        Usuario usuario = new Usuario();
+        usuario.setId(id);
+        usuario.setUsername("usuario" + id + "@email.com");
+        usuario.setPassword("$2a$12$fxK72wEyg70X/3.hcQZa.uqNTkhtJ.OeGu4frbwkHJB3.9JobITvy");
+        usuario.setRole(Usuario.Role.ROLE_CLIENTE);
+        return usuario;
+    }
+
+    @Benchmark
+    public ClienteVaga clienteVagaToClienteVaga() {
+        return ClienteVagaMapper.toClienteVaga(createDto);
+    }
+
+    @Benchmark
+    public EstacionamentoResponseDto clienteVagaToDto() {
+        return ClienteVagaMapper.toDto(clienteVaga);
+    }
+
+    @Benchmark
+    public UsuarioResponseDto usuarioToDto() {
+        return UsuarioMapper.toDto(usuario);
+    }
+
+    @Benchmark
+    public List<UsuarioResponseDto> usuarioToListDto() {
+        return UsuarioMapper.toListDto(usuarios);
+    }
+
+    @Benchmark
+    public PageableDto pageableToDto() {
+        return PageableMapper.toDto(pagina);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.devsolutions.CityParkServices.benchmark;
+
+import com.devsolutions.CityParkServices.repository.projection.ClienteVagaProjection;
+import com.devsolutions.CityParkServices.web.dto.PageableDto;
+import com.devsolutions.CityParkServices.web.dto.mapper.PageableMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por página do histórico: montar os records da projeção a partir das linhas e serializá-los com o Jackson.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProjecaoBenchmark {
+
+    @Param({"5", "100"})
+    private int tamanhoPagina;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private List<Map<String, Object>> tuplas;
+    private List<ClienteVagaProjection> records;
+
+    @Setup
+    public void setup() {
+        tuplas = new ArrayList<>(tamanhoPagina);
+        records = new ArrayList<>(tamanhoPagina);
+        for (int i = 0; i < tamanhoPagina; i++) {
+            Map<String, Object> tupla = novaTupla(i);
+            tuplas.add(tupla);
+            records.add(toRecord(tupla));
+        }
+    }
+
+    private static Map<String, Object> novaTupla(int i) {
+        Map<String, Object> tupla = new HashMap<>();
+        tupla.put("placa", String.format("ABC-%04d", i));
+        tupla.put("marca", "VOLKSWAGEN");
+        tupla.put("modelo", "BRASÍLIA");
+        tupla.put("cor", "AMARELA");
+        tupla.put("clienteCpf", "59644826000");
+        tupla.put("recibo", String.format("0ABCDEFGHI%03d", i));
+        tupla.put("dataEntrada", LocalDateTime.of(2024, 8, 15, 17, 52, 21).plusHours(i));
+        tupla.put("dataSaida", LocalDateTime.of(2024, 8, 15, 19, 2, 0).plusHours(i));
+        tupla.put("vagaCodigo", "A-02");
+        tupla.put("valor", new BigDecimal("11.00"));
+        tupla.put("desconto", new BigDecimal("0.00"));
+        return tupla;
+    }
+
+    private static ClienteVagaProjection toRecord(Map<String, Object> tupla) {
+        return new ClienteVagaProjection((String) tupla.get("placa"), (String) tupla.get("marca"),
+                (String) tupla.get("modelo"), (String) tupla.get("cor"), (String) tupla.get("clienteCpf"),
+                (String) tupla.get("recibo"), (LocalDateTime) tupla.get("dataEntrada"),
+                (LocalDateTime) tupla.get("dataSaida"), (String) tupla.get("vagaCodigo"),
+                (BigDecimal) tupla.get("valor"), (BigDecimal) tupla.get("desconto"));
+    }
+
+    private byte[] serializarPagina(List<?> conteudo) throws Exception {
+        PageableDto dto = PageableMapper.toDto(new PageImpl<>(conteudo, PageRequest.of(0, tamanhoPagina), 1000));
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] serializarRecords() throws Exception {
+        return serializarPagina(records);
+    }
+
+    @Benchmark
+    public byte[] montarESerializarRecords() throws Exception {
+        List<ClienteVagaProjection> pagina = new ArrayList<>(tamanhoPagina);
+        for (Map<String, Object> tupla : tuplas) {
+            pagina.add(toRecord(tupla));
+        }
+        return serializarPagina(pagina);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.devsolutions.CityParkServices.benchmark;
+
+import com.devsolutions.CityParkServices.util.ReciboGenerator;
+import com.devsolutions.CityParkServices.util.SnowflakeReciboGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ReciboBenchmark {
+
+    private final ReciboGenerator generator = new SnowflakeReciboGenerator(1);
+
+    @Benchmark
+    public String gerarRecibo() {
+        return generator.gerarRecibo();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String gerarReciboConcorrente() {
+        return generator.gerarRecibo();
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.devsolutions.CityParkServices.benchmark;
+
+import com.devsolutions.CityParkServices.util.TarifaEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TarifaBenchmark {
+
+    @Param({"10", "45", "187", "1500"})
+    private long minutos;
+
+    private LocalDateTime entrada;
+    private LocalDateTime saida;
+    private BigDecimal custo;
+    private long custoCentavos;
+    private final TarifaEngine tarifa = new TarifaEngine(15, 500, 60, 925, 15, 175, 0, 30, 5);
+
+    @Setup
+    public void setup() {
+        entrada = LocalDateTime.of(2024, 8, 15, 17, 52, 21);
+        saida = entrada.plusMinutes(minutos);
+        custo = tarifa.calcularCusto(entrada, saida);
+        custoCentavos = tarifa.calcularCustoCentavos(minutos);
+    }
+
+    @Benchmark
+    public BigDecimal calcularCusto() {
+        return tarifa.calcularCusto(entrada, saida);
+    }
+
+    @Benchmark
+    public BigDecimal calcularDesconto() {
+        return tarifa.calcularDesconto(custo, 5);
+    }
+
+    @Benchmark
+    public long calcularCustoCentavos() {
+        return tarifa.calcularCustoCentavos(minutos);
+    }
+
+    @Benchmark
+    public long calcularDescontoCentavos() {
+        return tarifa.calcularDescontoCentavos(custoCentavos, 5);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.devsolutions.CityParkServices.config;
+
+import com.devsolutions.CityParkServices.datasource.JanelaLeituraPropria;
+import com.devsolutions.CityParkServices.datasource.LeituraEscritaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Ativada quando a réplica é configurada; sem ela a aplicação segue com o único datasource do Spring Boot.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "citypark.datasource.replica", name = "jdbc-url")
+public class SpringDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("citypark.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primarioDataSource") DataSource primario,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 JanelaLeituraPropria janelaLeituraPropria) {
+        return new LazyConnectionDataSourceProxy(
+                new LeituraEscritaRoutingDataSource(primario, replica, janelaLeituraPropria));
+    }
+
+}
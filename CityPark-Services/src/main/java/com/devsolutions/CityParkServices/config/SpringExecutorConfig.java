@@ -0,0 +1,50 @@
+package com.devsolutions.CityParkServices.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Pools limitados para o trabalho pesado fora das threads do servlet: verificação bcrypt do login e geração de
+ * relatórios. Com eles no contexto o executor padrão do Spring Boot recua, por isso ele é declarado aqui também.
+ */
+@Configuration
+public class SpringExecutorConfig {
+
+    public static final String LOGIN_EXECUTOR = "loginExecutor";
+    public static final String RELATORIO_EXECUTOR = "relatorioExecutor";
+
+    @Bean(LOGIN_EXECUTOR)
+    public ThreadPoolTaskExecutor loginExecutor(@Value("${citypark.login.threads:4}") int threads,
+                                                @Value("${citypark.login.fila:200}") int fila) {
+        return poolLimitado(threads, fila, "login-");
+    }
+
+    @Bean(RELATORIO_EXECUTOR)
+    public ThreadPoolTaskExecutor relatorioExecutor(@Value("${citypark.relatorio.threads:2}") int threads,
+                                                    @Value("${citypark.relatorio.fila:20}") int fila) {
+        return poolLimitado(threads, fila, "relatorio-");
+    }
+
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    private static ThreadPoolTaskExecutor poolLimitado(int threads, int fila, String prefixo) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix(prefixo);
+        return executor;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.devsolutions.CityParkServices.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling
+@Configuration
+public class SpringSchedulingConfig {
+}
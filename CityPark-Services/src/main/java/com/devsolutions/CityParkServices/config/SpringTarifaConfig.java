@@ -0,0 +1,20 @@
+package com.devsolutions.CityParkServices.config;
+
+import com.devsolutions.CityParkServices.util.TarifaEngine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TarifaProperties.class)
+public class SpringTarifaConfig {
+
+    @Bean
+    public TarifaEngine tarifaEngine(TarifaProperties tarifa) {
+        return new TarifaEngine(tarifa.primeiroBloco().minutos(), tarifa.primeiroBloco().centavos(),
+                tarifa.blocoHora().minutos(), tarifa.blocoHora().centavos(),
+                tarifa.adicional().minutos(), tarifa.adicional().centavos(),
+                tarifa.tetoDiario().centavos(), tarifa.desconto().percentual(), tarifa.desconto().aCada());
+    }
+
+}
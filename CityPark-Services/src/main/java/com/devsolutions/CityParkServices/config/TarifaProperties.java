@@ -0,0 +1,29 @@
+package com.devsolutions.CityParkServices.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Tabela de tarifas ({@code citypark.tarifa.*}). Os valores vivem apenas no application.properties; sem eles a
+ * aplicação não inicia.
+ */
+@Validated
+@ConfigurationProperties("citypark.tarifa")
+public record TarifaProperties(@NotNull @Valid Bloco primeiroBloco,
+                               @NotNull @Valid Bloco blocoHora,
+                               @NotNull @Valid Bloco adicional,
+                               @NotNull @Valid TetoDiario tetoDiario,
+                               @NotNull @Valid Desconto desconto) {
+
+    public record Bloco(@NotNull Long minutos, @NotNull Long centavos) {
+    }
+
+    public record TetoDiario(@NotNull Long centavos) {
+    }
+
+    public record Desconto(@NotNull Long percentual, @NotNull Long aCada) {
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.devsolutions.CityParkServices.datasource;
+
+import com.devsolutions.CityParkServices.jwt.JwtUserDetails;
+import com.devsolutions.CityParkServices.util.TransacaoUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * Proteção contra o atraso da replicação: o usuário que acabou de ter uma escrita confirmada lê do primário até o
+ * fim da janela, mesmo em transações somente-leitura.
+ * <p>
+ * Limites: o usuário é identificado apenas por um principal {@link JwtUserDetails} (requisições anônimas e tarefas
+ * agendadas nunca abrem janela) e o registro é local à instância, então só protege leituras que chegam à mesma
+ * instância da escrita. Sem réplica configurada ({@code citypark.datasource.replica.jdbc-url}) nada é registrado.
+ * <p>
+ * Como {@link TransactionExecutionListener}, registrado pelo Spring Boot no gerenciador de transação, abre a janela
+ * do usuário autenticado após o commit de qualquer transação de escrita.
+ */
+@Component
+public class JanelaLeituraPropria implements TransactionExecutionListener {
+
+    private final Cache<Long, Boolean> escritasRecentes;
+
+    @Autowired
+    public JanelaLeituraPropria(@Value("${citypark.datasource.replica.jdbc-url:}") String replica,
+                                @Value("${citypark.datasource.replica.janela-leitura-propria:5s}") Duration janela) {
+        this.escritasRecentes = replica.isBlank() ? null : criarCache(janela, Ticker.systemTicker());
+    }
+
+    public JanelaLeituraPropria(Duration janela, Ticker ticker) {
+        this.escritasRecentes = criarCache(janela, ticker);
+    }
+
+    private static Cache<Long, Boolean> criarCache(Duration janela, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(janela)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Abre a janela de outro usuário afetado pela escrita (o cliente de um check-in feito pelo ADMIN). A janela
+     * começa no commit; uma transação desfeita não obriga leituras no primário.
+     */
+    public void registrar(Long usuarioId) {
+        if (escritasRecentes != null && usuarioId != null) {
+            TransacaoUtils.aposCommit(() -> escritasRecentes.put(usuarioId, Boolean.TRUE));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (escritasRecentes == null || commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        Long usuarioId = usuarioAtual();
+        if (usuarioId != null) {
+            escritasRecentes.put(usuarioId, Boolean.TRUE);
+        }
+    }
+
+    public boolean exigePrimario() {
+        if (escritasRecentes == null) {
+            return false;
+        }
+        Long usuarioId = usuarioAtual();
+        return usuarioId != null && escritasRecentes.getIfPresent(usuarioId) != null;
+    }
+
+    private static Long usuarioAtual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+
+}
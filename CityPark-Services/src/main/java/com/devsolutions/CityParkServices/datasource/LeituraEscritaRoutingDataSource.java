@@ -0,0 +1,39 @@
+package com.devsolutions.CityParkServices.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Envia as transações {@code readOnly} à réplica e todo o resto ao primário. Deve ficar atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: o gerenciador de transação obtém a
+ * conexão antes de marcar a transação como somente-leitura, e o proxy adia a escolha até o primeiro comando.
+ */
+public class LeituraEscritaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Destino {
+        PRIMARIO, REPLICA
+    }
+
+    private final JanelaLeituraPropria janelaLeituraPropria;
+
+    public LeituraEscritaRoutingDataSource(DataSource primario, DataSource replica,
+                                           JanelaLeituraPropria janelaLeituraPropria) {
+        this.janelaLeituraPropria = janelaLeituraPropria;
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    // só consulta a janela; quem a abre é o commit da escrita (JanelaLeituraPropria.afterCommit)
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Destino.PRIMARIO;
+        }
+        return janelaLeituraPropria.exigePrimario() ? Destino.PRIMARIO : Destino.REPLICA;
+    }
+
+}
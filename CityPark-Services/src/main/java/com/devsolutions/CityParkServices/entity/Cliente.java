@@ -2,6 +2,11 @@ package com.devsolutions.CityParkServices.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -15,6 +20,9 @@ import java.util.Objects;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 @Entity
 @Table(name = "clientes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clientes")
+@NaturalIdCache(region = "clientes-cpf")
 @EntityListeners(AuditingEntityListener.class)
 public class Cliente implements Serializable {
 
@@ -23,11 +31,15 @@ public class Cliente implements Serializable {
     private Long id;
     @Column(name = "nome", nullable = false, length = 100)
     private String nome;
+    @NaturalId
     @Column(name = "cpf", nullable = false, unique = true, length = 11)
     private String cpf;
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_usuario", nullable = false)
     private Usuario usuario;
+    @ColumnDefault("0")
+    @Column(name = "estacionamentos_concluidos", nullable = false, insertable = false, updatable = false)
+    private long estacionamentosConcluidos;
 
     @CreatedDate
     @Column(name = "data_criacao")
@@ -18,9 +18,14 @@ import java.util.Objects;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 @Entity
 @Table(name = "clientes_tem_vagas")
+@NamedEntityGraph(name = ClienteVaga.GRAFO_CLIENTE_E_VAGA,
+        attributeNodes = {@NamedAttributeNode("cliente"), @NamedAttributeNode("vaga")})
 @EntityListeners(AuditingEntityListener.class)
 public class ClienteVaga {
 
+    // recibo e check-out: CPF do cliente e vaga, sem o usuário do cliente
+    public static final String GRAFO_CLIENTE_E_VAGA = "ClienteVaga.clienteEVaga";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,10 +47,10 @@ public class ClienteVaga {
     private BigDecimal valor;
     @Column(name = "desconto", columnDefinition = "decimal(7,2)")
     private BigDecimal desconto;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_cliente", nullable = false)
     private Cliente cliente;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_vaga", nullable = false)
     private Vaga vaga;
 
@@ -0,0 +1,61 @@
+package com.devsolutions.CityParkServices.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Visão somente-leitura do histórico completo: estacionamentos da tabela quente ({@link ClienteVaga}) e os já
+ * arquivados. O id é o mesmo nas duas tabelas, pois o arquivamento preserva o registro original.
+ */
+@Getter @NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "historico_estacionamentos")
+public class HistoricoEstacionamento {
+
+    @Id
+    private Long id;
+    @Column(name = "numero_recibo", nullable = false, length = 15)
+    private String recibo;
+    @Column(name = "placa", nullable = false, length = 8)
+    private String placa;
+    @Column(name = "marca", nullable = false, length = 45)
+    private String marca;
+    @Column(name = "modelo", nullable = false, length = 45)
+    private String modelo;
+    @Column(name = "cor", nullable = false, length = 45)
+    private String cor;
+    @Column(name = "data_entrada", nullable = false)
+    private LocalDateTime dataEntrada;
+    @Column(name = "data_saida")
+    private LocalDateTime dataSaida;
+    @Column(name = "valor", columnDefinition = "decimal(7,2)")
+    private BigDecimal valor;
+    @Column(name = "desconto", columnDefinition = "decimal(7,2)")
+    private BigDecimal desconto;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_cliente", nullable = false)
+    private Cliente cliente;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_vaga", nullable = false)
+    private Vaga vaga;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HistoricoEstacionamento that = (HistoricoEstacionamento) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
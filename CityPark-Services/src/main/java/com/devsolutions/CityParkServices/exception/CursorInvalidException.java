@@ -0,0 +1,7 @@
+package com.devsolutions.CityParkServices.exception;
+
+public class CursorInvalidException extends RuntimeException{
+    public CursorInvalidException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.devsolutions.CityParkServices.exception;
+
+public class OrdenacaoInvalidaException extends RuntimeException{
+    public OrdenacaoInvalidaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.devsolutions.CityParkServices.exception;
+
+public class RelatorioFalhaException extends RuntimeException{
+    public RelatorioFalhaException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.devsolutions.CityParkServices.exception;
+
+public class RelatorioIndisponivelException extends RuntimeException{
+    public RelatorioIndisponivelException(String message) {
+        super(message);
+    }
+}
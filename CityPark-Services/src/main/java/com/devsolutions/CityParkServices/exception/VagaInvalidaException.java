@@ -0,0 +1,7 @@
+package com.devsolutions.CityParkServices.exception;
+
+public class VagaInvalidaException extends RuntimeException {
+    public VagaInvalidaException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,13 @@
 package com.devsolutions.CityParkServices.jwt;
 
+import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,9 +19,17 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
+    private static final String ROLE_ADMIN = "ADMIN";
+
     @Autowired
     private JwtUserDetailsService detailsService;
 
+    @Autowired
+    private JwtTokenVerifier tokenVerifier;
+
+    @Value("${citypark.jwt.stateless:true}")
+    private boolean stateless;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
@@ -30,22 +40,29 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!JwtUtils.isTokenValid(token)) {
+        JwtClaims claims = tokenVerifier.verificar(token);
+        if (claims == null) {
             log.warn("JWT Token está inválido ou expirado.");
             filterChain.doFilter(request, response);
             return;
         }
 
-        String username = JwtUtils.getUsernameFromToken(token);
-
-        toAuthentication(request, username);
+        try {
+            toAuthentication(request, claims);
+        } catch (EntityNotFoundException ex) {
+            log.warn("JWT Token de usuário inexistente: {}", claims.subject());
+        }
 
         filterChain.doFilter(request, response);
 
     }
 
-    private void toAuthentication(HttpServletRequest request, String username) {
-        UserDetails userDetails = detailsService.loadUserByUsername(username);
+    // o papel ADMIN do token é sempre conferido no banco (cache invalidado a cada alteração do usuário), para que a
+    // revogação não espere a expiração do token; os demais papéis seguem só com as claims
+    private void toAuthentication(HttpServletRequest request, JwtClaims claims) {
+        UserDetails userDetails = stateless && claims.id() != null && !ROLE_ADMIN.equals(claims.role())
+                ? JwtUserDetails.fromClaims(claims)
+                : detailsService.carregarPrincipal(claims.subject());
 
         UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken
                 .authenticated(userDetails, null, userDetails.getAuthorities());
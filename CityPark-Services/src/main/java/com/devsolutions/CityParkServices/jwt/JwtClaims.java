@@ -0,0 +1,6 @@
+package com.devsolutions.CityParkServices.jwt;
+
+import java.time.Instant;
+
+public record JwtClaims(Long id, String subject, String role, Instant expiracao) {
+}
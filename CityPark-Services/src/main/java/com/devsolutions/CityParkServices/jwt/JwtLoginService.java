@@ -0,0 +1,62 @@
+package com.devsolutions.CityParkServices.jwt;
+
+import com.devsolutions.CityParkServices.config.SpringExecutorConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executa a verificação bcrypt do login em um pool próprio e limitado, fora das threads do servlet, e emite o
+ * token a partir do principal já carregado na autenticação.
+ */
+@Service
+public class JwtLoginService {
+
+    private final AuthenticationManager authenticationManager;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+
+    public JwtLoginService(AuthenticationManager authenticationManager, MeterRegistry meterRegistry,
+                           @Qualifier(SpringExecutorConfig.LOGIN_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        this.authenticationManager = authenticationManager;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<JwtToken> autenticar(String username, String password) {
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        try {
+            return CompletableFuture.supplyAsync(() -> emitirToken(username, password), executor)
+                    .whenComplete((token, erro) -> registrar(amostra, erro == null ? "sucesso" : "falha"));
+        } catch (TaskRejectedException ex) {
+            registrar(amostra, "rejeitado");
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private JwtToken emitirToken(String username, String password) {
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(username, password)
+        );
+        JwtUserDetails principal = (JwtUserDetails) authentication.getPrincipal();
+        return JwtUtils.createToken(principal.getId(), principal.getUsername(),
+                principal.getRole().substring("ROLE_".length()));
+    }
+
+    private void registrar(Timer.Sample amostra, String resultado) {
+        amostra.stop(Timer.builder("citypark.login")
+                .description("Latência do login, incluindo a espera no pool de bcrypt")
+                .tag("resultado", resultado)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+}
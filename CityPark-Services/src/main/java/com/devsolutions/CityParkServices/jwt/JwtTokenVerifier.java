@@ -0,0 +1,26 @@
+package com.devsolutions.CityParkServices.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verifica a assinatura e a expiração do token com uma única análise, reutilizando o parser de {@link JwtUtils}.
+ */
+@Slf4j
+@Component
+public class JwtTokenVerifier {
+
+    public JwtClaims verificar(String token) {
+        try {
+            Claims claims = JwtUtils.PARSER.parseSignedClaims(JwtUtils.refactorToken(token)).getPayload();
+            return new JwtClaims(claims.get("id", Long.class), claims.getSubject(), claims.get("role", String.class),
+                    claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.error(String.format("Token invalido %s", ex.getMessage()));
+        }
+        return null;
+    }
+
+}
@@ -6,19 +6,33 @@ import org.springframework.security.core.userdetails.User;
 
 public class JwtUserDetails extends User {
 
-    private Usuario usuario;
+    private final Long id;
+
+    private final String role;
 
     public JwtUserDetails(Usuario usuario) {
-        super(usuario.getUsername(), usuario.getPassword(), AuthorityUtils.createAuthorityList(usuario.getRole().name()));
-        this.usuario = usuario;
+        this(usuario.getId(), usuario.getUsername(), usuario.getPassword(), usuario.getRole().name());
+    }
+
+    public JwtUserDetails(Long id, String username, String password, String role) {
+        super(username, password, AuthorityUtils.createAuthorityList(role));
+        this.id = id;
+        this.role = role;
+    }
+
+    /**
+     * Principal montado somente a partir do token, sem consulta ao banco e sem senha.
+     */
+    public static JwtUserDetails fromClaims(JwtClaims claims) {
+        return new JwtUserDetails(claims.id(), claims.subject(), "", "ROLE_" + claims.role());
     }
 
     public Long getId() {
-        return this.usuario.getId();
+        return this.id;
     }
 
     public String getRole() {
-        return this.usuario.getRole().name();
+        return this.role;
 
     }
 
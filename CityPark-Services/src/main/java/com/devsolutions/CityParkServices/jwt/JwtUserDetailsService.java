@@ -1,30 +1,71 @@
 package com.devsolutions.CityParkServices.jwt;
 
 import com.devsolutions.CityParkServices.entity.Usuario;
+import com.devsolutions.CityParkServices.service.UsuarioAlteradoEvent;
 import com.devsolutions.CityParkServices.service.UsuarioService;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
 
-@RequiredArgsConstructor
 @Service
 
 public class JwtUserDetailsService implements UserDetailsService {
 
     private final UsuarioService usuarioService;
 
+    private final Cache<String, UsuarioDetalhes> cache;
+
+    public JwtUserDetailsService(UsuarioService usuarioService, MeterRegistry meterRegistry,
+                                 @Value("${citypark.jwt.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                                 @Value("${citypark.jwt.cache.ttl:5m}") Duration ttl) {
+        this.usuarioService = usuarioService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "usuarios-detalhes");
+    }
+
+    /**
+     * Caminho do login: consulta o banco a cada chamada, para que o hash bcrypt não fique guardado em memória.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Usuario usuario = usuarioService.buscarPorUsername(username);
-        return new JwtUserDetails(usuario);
+        return new JwtUserDetails(usuarioService.buscarPorUsername(username));
+    }
+
+    /**
+     * Caminho das requisições autenticadas por token: principal sem senha, em cache até a próxima alteração do
+     * usuário ou o fim do ttl.
+     */
+    public JwtUserDetails carregarPrincipal(String username) {
+        return cache.get(username, chave -> UsuarioDetalhes.of(usuarioService.buscarPorUsername(chave)))
+                .toUserDetails();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidar(UsuarioAlteradoEvent event) {
+        cache.invalidate(event.username());
     }
 
-    public JwtToken getTokenAuthenticated(String username) {
-        Usuario.Role role = usuarioService.buscarRolePorUsername(username);
-        return JwtUtils.createToken(username, role.name().substring("ROLE_".length()));
+    private record UsuarioDetalhes(Long id, String username, String role) {
 
+        static UsuarioDetalhes of(Usuario usuario) {
+            return new UsuarioDetalhes(usuario.getId(), usuario.getUsername(), usuario.getRole().name());
+        }
 
+        JwtUserDetails toUserDetails() {
+            return new JwtUserDetails(id, username, "", role);
+        }
     }
-}
\ No newline at end of file
+}
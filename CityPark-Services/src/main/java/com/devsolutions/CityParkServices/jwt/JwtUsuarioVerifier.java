@@ -0,0 +1,39 @@
+package com.devsolutions.CityParkServices.jwt;
+
+import com.devsolutions.CityParkServices.entity.Usuario;
+import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
+import com.devsolutions.CityParkServices.service.UsuarioService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revalida no banco o principal montado a partir do token, para uso em {@code @PreAuthorize} de operações sensíveis.
+ */
+@RequiredArgsConstructor
+@Component("jwtUsuarioVerifier")
+public class JwtUsuarioVerifier {
+
+    private final UsuarioService usuarioService;
+
+    @Value("${citypark.jwt.verificar-operacoes-sensiveis:true}")
+    private boolean verificar;
+
+    public boolean confere(Authentication authentication) {
+        if (!verificar) {
+            return true;
+        }
+        if (!(authentication.getPrincipal() instanceof JwtUserDetails principal)) {
+            return false;
+        }
+        try {
+            Usuario usuario = usuarioService.buscarPorId(principal.getId());
+            return usuario.getUsername().equals(principal.getUsername())
+                    && usuario.getRole().name().equals(principal.getRole());
+        } catch (EntityNotFoundException ex) {
+            return false;
+        }
+    }
+
+}
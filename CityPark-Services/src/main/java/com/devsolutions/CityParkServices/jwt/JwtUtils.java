@@ -1,18 +1,16 @@
 package com.devsolutions.CityParkServices.jwt;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 
-@Slf4j
-
 public class JwtUtils {
 
     public static final String JWT_BEARER = "Bearer ";
@@ -27,12 +25,11 @@ public class JwtUtils {
 
     public static final long EXPIRE_MINUTES = 30;
 
-    private JwtUtils(){
-    }
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
 
-    private static javax.crypto.SecretKey generateKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    static final JwtParser PARSER = Jwts.parser().verifyWith(KEY).build();
 
+    private JwtUtils(){
     }
 
     private static Date toExpireDate(Date start) {
@@ -42,6 +39,10 @@ public class JwtUtils {
     }
 
     public static JwtToken createToken(String username, String role) {
+        return createToken(null, username, role);
+    }
+
+    public static JwtToken createToken(Long id, String username, String role) {
         Date issuedAt = new Date();
         Date limit = toExpireDate(issuedAt);
 
@@ -51,45 +52,16 @@ public class JwtUtils {
                 .subject(username)
                 .issuedAt(issuedAt)
                 .expiration(limit)
-                .signWith(generateKey())
+                .signWith(KEY)
                 .claim("role", role)
+                .claim("id", id)
                 .compact();
 
         return new JwtToken(token);
 
     }
 
-    private static Claims getClaimsFromToken(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(generateKey())
-                    .build()
-                    .parseSignedClaims(refactorToken(token)).getPayload();
-
-        } catch (JwtException ex) {
-            log.error(String.format("Token invalido %s", ex.getMessage()));
-        }
-        return null;
-    }
-
-    public static String getUsernameFromToken(String token) {
-        return getClaimsFromToken(token).getSubject();
-    }
-
-    public static boolean isTokenValid(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(generateKey())
-                    .build()
-                    .parseSignedClaims(refactorToken(token));
-            return true;
-        } catch (JwtException ex) {
-            log.error(String.format("Token invalido %s", ex.getMessage()));
-        }
-        return false;
-    }
-
-    private static String refactorToken(String token) {
+    static String refactorToken(String token) {
         if(token.contains(JWT_BEARER)) {
             return token.substring(JWT_BEARER.length());
         }
@@ -0,0 +1,21 @@
+package com.devsolutions.CityParkServices.repository;
+
+import com.devsolutions.CityParkServices.entity.Cliente;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Acesso ao cliente pelo cache de segundo nível: buscas pelo CPF passam pelo cache de natural-id do Hibernate
+ * antes de consultar o banco.
+ */
+public interface ClienteCacheRepository {
+
+    Optional<Cliente> findByNaturalId(String cpf);
+
+    List<Cliente> findAllByNaturalIdIn(Collection<String> cpfs);
+
+    void evictCache(Long id);
+
+}
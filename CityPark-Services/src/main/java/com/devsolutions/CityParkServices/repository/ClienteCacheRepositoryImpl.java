@@ -0,0 +1,35 @@
+package com.devsolutions.CityParkServices.repository;
+
+import com.devsolutions.CityParkServices.entity.Cliente;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class ClienteCacheRepositoryImpl implements ClienteCacheRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Cliente> findByNaturalId(String cpf) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Cliente.class).loadOptional(cpf);
+    }
+
+    @Override
+    public List<Cliente> findAllByNaturalIdIn(Collection<String> cpfs) {
+        return entityManager.unwrap(Session.class).byMultipleNaturalId(Cliente.class)
+                .multiLoad(List.copyOf(cpfs)).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void evictCache(Long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(Cliente.class, id);
+    }
+}
@@ -2,21 +2,46 @@ package com.devsolutions.CityParkServices.repository;
 
 import com.devsolutions.CityParkServices.entity.Cliente;
 import com.devsolutions.CityParkServices.repository.projection.ClienteProjection;
+import com.devsolutions.CityParkServices.repository.projection.ContadorDivergenteProjection;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.util.Optional;
+import java.util.List;
 
-public interface ClienteRepository extends JpaRepository <Cliente, Long> {
+public interface ClienteRepository extends JpaRepository <Cliente, Long>, ClienteCacheRepository {
 
     @Query("select c from Cliente c")
     Page<ClienteProjection> findAllPageable(Pageable pageable);
 
     Cliente findByUsuarioId(Long id);
 
-    Optional <Cliente> findByCpf(String cpf);
+    // SQL nativo sincronizado com um espaço próprio: um update HQL invalidaria toda a região de clientes no cache
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "clientes_contador"))
+    @Query(value = "update clientes set estacionamentos_concluidos = estacionamentos_concluidos + :quantidade " +
+            "where id = :id", nativeQuery = true)
+    int incrementarEstacionamentosConcluidos(Long id, long quantidade);
+
+    @Query("select c.estacionamentosConcluidos from Cliente c where c.id = :id")
+    long findEstacionamentosConcluidosById(Long id);
+
+    // contagem por tabela, cada uma pelo próprio índice de cliente; o arquivo só guarda concluídos
+    String TOTAL_CONCLUIDOS = "(select count(*) from clientes_tem_vagas v where v.id_cliente = c.id " +
+            "and v.data_saida is not null) + (select count(*) from clientes_tem_vagas_arquivo a where a.id_cliente = c.id)";
+
+    @Modifying
+    @Query(value = "update clientes c set c.estacionamentos_concluidos = " + TOTAL_CONCLUIDOS, nativeQuery = true)
+    int recalcularEstacionamentosConcluidos();
+
+    @Query(value = "select t.cpf as cpf, t.contador as contador, t.total as total from (select c.cpf as cpf, " +
+            "c.estacionamentos_concluidos as contador, " + TOTAL_CONCLUIDOS + " as total from clientes c) t " +
+            "where t.contador <> t.total", nativeQuery = true)
+    List<ContadorDivergenteProjection> findContadoresDivergentes();
 
 }
 
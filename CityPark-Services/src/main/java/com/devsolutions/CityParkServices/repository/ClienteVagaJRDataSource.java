@@ -0,0 +1,62 @@
+package com.devsolutions.CityParkServices.repository;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Fonte de dados do relatório estacionamentos.jasper que avança sobre um {@link ResultSet} aberto, sem carregar o
+ * histórico em memória. As colunas {@code hours} e {@code minutes} são calculadas aqui para não depender de
+ * funções específicas do MySQL.
+ */
+public class ClienteVagaJRDataSource implements JRDataSource {
+
+    public static final String SELECT_RELATORIO = "select c.cpf, c.nome, cv.cor, cv.desconto, cv.marca, cv.modelo, " +
+            "cv.placa, cv.numero_recibo, cv.valor, v.codigo, cv.data_entrada, cv.data_saida " +
+            "from historico_estacionamentos cv join clientes c on c.id = cv.id_cliente join vagas v on v.id = cv.id_vaga " +
+            "where c.cpf = ? order by cv.placa";
+
+    private final ResultSet resultSet;
+
+    private Duration permanencia;
+
+    public ClienteVagaJRDataSource(ResultSet resultSet) {
+        this.resultSet = resultSet;
+    }
+
+    @Override
+    public boolean next() throws JRException {
+        try {
+            if (!resultSet.next()) {
+                return false;
+            }
+            LocalDateTime entrada = resultSet.getObject("data_entrada", LocalDateTime.class);
+            LocalDateTime saida = resultSet.getObject("data_saida", LocalDateTime.class);
+            permanencia = entrada == null || saida == null ? null : Duration.between(entrada, saida).abs();
+            return true;
+        } catch (SQLException ex) {
+            throw new JRException("Falha ao ler o histórico de estacionamentos", ex);
+        }
+    }
+
+    @Override
+    public Object getFieldValue(JRField field) throws JRException {
+        try {
+            return switch (field.getName()) {
+                case "hours" -> permanencia == null ? null : permanencia.toHours();
+                case "minutes" -> permanencia == null ? null : (long) permanencia.toMinutesPart();
+                case "data_entrada", "data_saida" -> resultSet.getObject(field.getName(), LocalDateTime.class);
+                case "valor", "desconto" -> resultSet.getBigDecimal(field.getName());
+                default -> resultSet.getString(field.getName());
+            };
+        } catch (SQLException ex) {
+            throw new JRException(String.format("Falha ao ler o campo %s do relatório", field.getName()), ex);
+        }
+    }
+
+}
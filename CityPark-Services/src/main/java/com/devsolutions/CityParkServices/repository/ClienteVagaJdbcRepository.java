@@ -0,0 +1,245 @@
+package com.devsolutions.CityParkServices.repository;
+
+import com.devsolutions.CityParkServices.entity.ClienteVaga;
+import com.devsolutions.CityParkServices.repository.projection.ClienteVagaCursorProjection;
+import com.devsolutions.CityParkServices.repository.projection.EstacionamentoExportado;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+@Repository
+public class ClienteVagaJdbcRepository {
+
+    private static final int TAMANHO_LOTE = 100;
+
+    private static final String INSERT_CLIENTE_VAGA = "insert into clientes_tem_vagas (numero_recibo, placa, marca, " +
+            "modelo, cor, data_entrada, id_cliente, id_vaga, data_criacao, data_modificacao, criado_por, modificado_por) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_EXPORTACAO = "select cv.placa, cv.marca, cv.modelo, cv.cor, c.cpf, " +
+            "cv.numero_recibo, cv.data_entrada, cv.data_saida, v.codigo, cv.valor, cv.desconto " +
+            "from %s cv join clientes c on c.id = cv.id_cliente join vagas v on v.id = cv.id_vaga " +
+            "where 1 = 1";
+
+    private static final String CLIENTE_POR_CPF = "(select id from clientes where cpf = ?)";
+
+    private static final String CLIENTE_POR_USUARIO = "(select id from clientes where id_usuario = ?)";
+
+    // cada lado do union já sai ordenado pelo índice (id_cliente, data_entrada) e limitado à página
+    private static final String SELECT_CURSOR_TABELA = "(select id, placa, marca, modelo, cor, numero_recibo, " +
+            "data_entrada, data_saida, valor, desconto, id_cliente, id_vaga from %s where id_cliente = %s%s " +
+            "order by data_entrada, id limit ?)";
+
+    private static final String APOS_CURSOR = " and (data_entrada > ? or (data_entrada = ? and id > ?))";
+
+    private static final String SELECT_CURSOR = "select h.id, h.placa, h.marca, h.modelo, h.cor, c.cpf, " +
+            "h.numero_recibo, h.data_entrada, h.data_saida, v.codigo, h.valor, h.desconto " +
+            "from (%s union all %s) h join clientes c on c.id = h.id_cliente join vagas v on v.id = h.id_vaga " +
+            "order by h.data_entrada, h.id limit ?";
+
+    private static final String COUNT_HISTORICO = "select (select count(*) from clientes_tem_vagas where id_cliente = %1$s) " +
+            "+ (select count(*) from clientes_tem_vagas_arquivo where id_cliente = %1$s)";
+
+    private static final String SELECT_LOTE_ARQUIVAMENTO = "select id from clientes_tem_vagas " +
+            "where data_saida < ? order by id limit ?";
+
+    private static final String COLUNAS_ARQUIVAMENTO = "id, numero_recibo, placa, marca, modelo, cor, data_entrada, " +
+            "data_saida, valor, desconto, id_cliente, id_vaga, data_criacao, data_modificacao, criado_por, modificado_por";
+
+    private static final String INSERT_ARQUIVO = "insert into clientes_tem_vagas_arquivo (" + COLUNAS_ARQUIVAMENTO +
+            ") select " + COLUNAS_ARQUIVAMENTO + " from clientes_tem_vagas where data_saida < ? and id <= ?";
+
+    private static final String DELETE_ARQUIVADOS = "delete from clientes_tem_vagas where data_saida < ? and id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    @Value("${citypark.exportacao.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${citypark.arquivamento.idade:90d}")
+    private Duration idadeArquivamento;
+
+    public void inserirEmLote(List<ClienteVaga> registros) {
+        LocalDateTime agora = LocalDateTime.now();
+        String usuario = auditorAware.getCurrentAuditor().orElse(null);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_CLIENTE_VAGA, Statement.RETURN_GENERATED_KEYS)) {
+                for (int inicio = 0; inicio < registros.size(); inicio += TAMANHO_LOTE) {
+                    List<ClienteVaga> lote = registros.subList(inicio, Math.min(inicio + TAMANHO_LOTE, registros.size()));
+                    for (ClienteVaga clienteVaga : lote) {
+                        clienteVaga.setDateCriacao(agora);
+                        clienteVaga.setDataModificacao(agora);
+                        clienteVaga.setCriadoPor(usuario);
+                        clienteVaga.setModificadoPor(usuario);
+                        ps.setString(1, clienteVaga.getRecibo());
+                        ps.setString(2, clienteVaga.getPlaca());
+                        ps.setString(3, clienteVaga.getMarca());
+                        ps.setString(4, clienteVaga.getModelo());
+                        ps.setString(5, clienteVaga.getCor());
+                        ps.setObject(6, clienteVaga.getDataEntrada());
+                        ps.setLong(7, clienteVaga.getCliente().getId());
+                        ps.setLong(8, clienteVaga.getVaga().getId());
+                        ps.setObject(9, agora);
+                        ps.setObject(10, agora);
+                        ps.setString(11, usuario);
+                        ps.setString(12, usuario);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    atribuirIds(ps, lote);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void atribuirIds(PreparedStatement ps, List<ClienteVaga> lote) throws java.sql.SQLException {
+        try (ResultSet ids = ps.getGeneratedKeys()) {
+            for (int i = 0; i < lote.size() && ids.next(); i++) {
+                lote.get(i).setId(ids.getLong(1));
+            }
+        }
+    }
+
+    /**
+     * Move para o arquivo os primeiros {@code tamanhoLote} estacionamentos, por id, concluídos antes do corte. O lote
+     * é delimitado pelo maior id selecionado, então insert e delete alcançam exatamente as mesmas linhas; um registro
+     * aberto nunca entra, pois a saída gravada depois do corte não o satisfaz. Exige uma transação ativa, aberta por
+     * quem chama para cada lote.
+     *
+     * @return quantidade de registros arquivados
+     */
+    public int arquivarLote(LocalDateTime corte, int tamanhoLote) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_LOTE_ARQUIVAMENTO, Long.class, corte, tamanhoLote);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long ultimoId = ids.get(ids.size() - 1);
+        jdbcTemplate.update(INSERT_ARQUIVO, corte, ultimoId);
+        return jdbcTemplate.update(DELETE_ARQUIVADOS, corte, ultimoId);
+    }
+
+    /**
+     * Página por cursor do histórico do cliente, ordenada por (dataEntrada, id). Sem cursor, {@code dataEntrada} e
+     * {@code id} são nulos.
+     */
+    public List<ClienteVagaCursorProjection> buscarHistoricoPorClienteCpf(String cpf, LocalDateTime dataEntrada,
+                                                                          Long id, int limite) {
+        return buscarHistorico(CLIENTE_POR_CPF, cpf, dataEntrada, id, limite);
+    }
+
+    public List<ClienteVagaCursorProjection> buscarHistoricoPorUsuarioId(Long usuarioId, LocalDateTime dataEntrada,
+                                                                         Long id, int limite) {
+        return buscarHistorico(CLIENTE_POR_USUARIO, usuarioId, dataEntrada, id, limite);
+    }
+
+    public long contarHistoricoPorClienteCpf(String cpf) {
+        return jdbcTemplate.queryForObject(String.format(COUNT_HISTORICO, CLIENTE_POR_CPF), Long.class, cpf, cpf);
+    }
+
+    public long contarHistoricoPorUsuarioId(Long usuarioId) {
+        return jdbcTemplate.queryForObject(String.format(COUNT_HISTORICO, CLIENTE_POR_USUARIO), Long.class,
+                usuarioId, usuarioId);
+    }
+
+    /**
+     * Cada tabela devolve no máximo {@code limite} linhas após o cursor; a ordenação final junta as duas listas, sem
+     * passar pela visão, que ordenaria o histórico inteiro do cliente.
+     */
+    private List<ClienteVagaCursorProjection> buscarHistorico(String filtroCliente, Object cliente,
+                                                              LocalDateTime dataEntrada, Long id, int limite) {
+        String aposCursor = dataEntrada == null ? "" : APOS_CURSOR;
+        String sql = String.format(SELECT_CURSOR,
+                String.format(SELECT_CURSOR_TABELA, "clientes_tem_vagas", filtroCliente, aposCursor),
+                String.format(SELECT_CURSOR_TABELA, "clientes_tem_vagas_arquivo", filtroCliente, aposCursor));
+        List<Object> parametros = new ArrayList<>(11);
+        for (int tabela = 0; tabela < 2; tabela++) {
+            parametros.add(cliente);
+            if (dataEntrada != null) {
+                parametros.add(dataEntrada);
+                parametros.add(dataEntrada);
+                parametros.add(id);
+            }
+            parametros.add(limite);
+        }
+        parametros.add(limite);
+        return jdbcTemplate.query(sql, (rs, linha) -> new ClienteVagaCursorProjection(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getString(7),
+                rs.getObject(8, LocalDateTime.class),
+                rs.getObject(9, LocalDateTime.class),
+                rs.getString(10),
+                rs.getBigDecimal(11),
+                rs.getBigDecimal(12)
+        ), parametros.toArray());
+    }
+
+    /**
+     * Percorre o histórico com um cursor somente-leitura e de avanço único, entregando uma linha por vez ao
+     * consumidor; nenhuma lista é acumulada em memória. Quando o início é mais recente que a idade de arquivamento,
+     * nenhuma linha do período pode estar no arquivo e a leitura fica só na tabela quente.
+     */
+    public void exportar(String cpf, LocalDateTime inicio, LocalDateTime fim,
+                         Consumer<EstacionamentoExportado> consumidor) {
+        boolean recente = inicio != null && !inicio.isBefore(LocalDateTime.now().minus(idadeArquivamento));
+        StringBuilder sql = new StringBuilder(String.format(SELECT_EXPORTACAO,
+                recente ? "clientes_tem_vagas" : "historico_estacionamentos"));
+        List<Object> parametros = new ArrayList<>(3);
+        if (cpf != null) {
+            sql.append(" and c.cpf = ?");
+            parametros.add(cpf);
+        }
+        if (inicio != null) {
+            sql.append(" and cv.data_entrada >= ?");
+            parametros.add(inicio);
+        }
+        if (fim != null) {
+            sql.append(" and cv.data_entrada < ?");
+            parametros.add(fim);
+        }
+        sql.append(" order by cv.data_entrada, cv.id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < parametros.size(); i++) {
+                ps.setObject(i + 1, parametros.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumidor.accept(new EstacionamentoExportado(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getObject(7, LocalDateTime.class),
+                rs.getObject(8, LocalDateTime.class),
+                rs.getString(9),
+                rs.getBigDecimal(10),
+                rs.getBigDecimal(11)
+        )));
+    }
+
+}
@@ -2,19 +2,53 @@ package com.devsolutions.CityParkServices.repository;
 
 import com.devsolutions.CityParkServices.entity.ClienteVaga;
 import com.devsolutions.CityParkServices.repository.projection.ClienteVagaProjection;
+import com.devsolutions.CityParkServices.repository.projection.ReciboAberto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ClienteVagaRepository extends JpaRepository<ClienteVaga, Long> {
+
+    @EntityGraph(ClienteVaga.GRAFO_CLIENTE_E_VAGA)
     Optional<ClienteVaga> findByReciboAndDataSaidaIsNull(String recibo);
 
-    long countByClienteCpfAndDataSaidaIsNotNull(String cpf);
+    @EntityGraph(ClienteVaga.GRAFO_CLIENTE_E_VAGA)
+    Optional<ClienteVaga> findComClienteEVagaById(Long id);
+
+    @Query("select c from ClienteVaga c join fetch c.cliente join fetch c.vaga " +
+            "where c.recibo in :recibos and c.dataSaida is null")
+    List<ClienteVaga> findAllByReciboInAndDataSaidaIsNull(Collection<String> recibos);
+
+    @Query("select c from ClienteVaga c join fetch c.cliente join fetch c.vaga " +
+            "where c.id in :ids and c.dataSaida is null")
+    List<ClienteVaga> findAllByIdInAndDataSaidaIsNull(Collection<Long> ids);
+
+    @Query("select new com.devsolutions.CityParkServices.repository.projection.ReciboAberto(" +
+            "c.recibo, c.id, c.vaga.id, c.cliente.id, c.dataEntrada) from ClienteVaga c where c.dataSaida is null")
+    List<ReciboAberto> findAllRecibosAbertos();
+
+    String PROJECAO = "com.devsolutions.CityParkServices.repository.projection.";
+
+    // tabela quente e arquivo
+    String FROM_HISTORICO = "from HistoricoEstacionamento c join c.cliente cl join c.vaga v ";
+
+    String SELECT_HISTORICO = "select new " + PROJECAO + "ClienteVagaProjection(c.placa, c.marca, c.modelo, c.cor, " +
+            "cl.cpf, c.recibo, c.dataEntrada, c.dataSaida, v.codigo, c.valor, c.desconto) " + FROM_HISTORICO;
+
+    String COUNT_HISTORICO = "select count(c) from HistoricoEstacionamento c join c.cliente cl ";
 
+    @Query(value = SELECT_HISTORICO + "where cl.cpf = :cpf",
+            countQuery = COUNT_HISTORICO + "where cl.cpf = :cpf")
     Page<ClienteVagaProjection> findAllByClienteCpf(String cpf, Pageable pageable);
 
+    @Query(value = SELECT_HISTORICO + "where cl.usuario.id = :id",
+            countQuery = COUNT_HISTORICO + "where cl.usuario.id = :id")
     Page<ClienteVagaProjection> findAllByClienteUsuarioId(Long id, Pageable pageable);
 
 }
@@ -1,15 +1,35 @@
 package com.devsolutions.CityParkServices.repository;
 
 import com.devsolutions.CityParkServices.entity.Usuario;
+import com.devsolutions.CityParkServices.repository.projection.UsuarioProjection;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+
+    String SELECT_PROJECAO = "select u.id as id, u.username as username, u.role as role from Usuario u ";
+
     Optional<Usuario> findByUsername(String username);
 
-    @Query("select u.role from Usuario u where u.username like :username")
-    Usuario.Role findRoleByUsername(String username);
+    @Query(value = SELECT_PROJECAO, countQuery = "select count(u) from Usuario u")
+    Page<UsuarioProjection> findAllPageable(Pageable pageable);
+
+    @Query(SELECT_PROJECAO + "order by u.id asc")
+    List<UsuarioProjection> findPrimeiros(Pageable limite);
+
+    @Query(SELECT_PROJECAO + "where u.id > :id order by u.id asc")
+    List<UsuarioProjection> findProximos(Long id, Pageable limite);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query(SELECT_PROJECAO + "order by u.id asc")
+    Stream<UsuarioProjection> streamAll();
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.devsolutions.CityParkServices.repository;
+
+import com.devsolutions.CityParkServices.entity.Vaga;
+
+import java.util.Optional;
+
+/**
+ * Acesso à vaga pelo cache de segundo nível: a busca pelo código passa pelo cache de natural-id do Hibernate antes de consultar o banco.
+ */
+public interface VagaCacheRepository {
+
+    Optional<Vaga> findByNaturalId(String codigo);
+
+}
@@ -0,0 +1,19 @@
+package com.devsolutions.CityParkServices.repository;
+
+import com.devsolutions.CityParkServices.entity.Vaga;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class VagaCacheRepositoryImpl implements VagaCacheRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Vaga> findByNaturalId(String codigo) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Vaga.class).loadOptional(codigo);
+    }
+}
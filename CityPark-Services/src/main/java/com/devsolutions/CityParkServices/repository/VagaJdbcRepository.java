@@ -0,0 +1,86 @@
+package com.devsolutions.CityParkServices.repository;
+
+import com.devsolutions.CityParkServices.entity.Vaga;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class VagaJdbcRepository {
+
+    private static final int TAMANHO_LOTE = 500;
+
+    private static final String INSERT_VAGA = "insert into vagas (codigo, status, data_criacao, data_modificacao, " +
+            "criado_por, modificado_por) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    /**
+     * Insere todas as vagas ou nenhuma: em caso de erro o insert volta ao savepoint criado no início, e a transação
+     * de quem chama continua utilizável. Exige uma transação ativa.
+     */
+    public void inserirEmLote(List<Vaga> vagas) {
+        LocalDateTime agora = LocalDateTime.now();
+        String usuario = auditorAware.getCurrentAuditor().orElse(null);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_VAGA, Statement.RETURN_GENERATED_KEYS)) {
+                for (int inicio = 0; inicio < vagas.size(); inicio += TAMANHO_LOTE) {
+                    List<Vaga> lote = vagas.subList(inicio, Math.min(inicio + TAMANHO_LOTE, vagas.size()));
+                    for (Vaga vaga : lote) {
+                        vaga.setDataCriacao(agora);
+                        vaga.setDataModificacao(agora);
+                        vaga.setCriadoPor(usuario);
+                        vaga.setModificadoPor(usuario);
+                        ps.setString(1, vaga.getCodigo());
+                        ps.setString(2, vaga.getStatus().name());
+                        ps.setObject(3, agora);
+                        ps.setObject(4, agora);
+                        ps.setString(5, usuario);
+                        ps.setString(6, usuario);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    atribuirIds(ps, lote);
+                }
+            } catch (SQLException ex) {
+                connection.rollback(savepoint);
+                throw ex;
+            }
+            connection.releaseSavepoint(savepoint);
+            return null;
+        });
+    }
+
+    /**
+     * Leitura com bloqueio: enxerga os códigos gravados por transações já confirmadas, mesmo sob REPEATABLE READ, e
+     * segura as linhas até o fim da transação.
+     */
+    public List<String> bloquearCodigosExistentes(List<String> codigos) {
+        String parametros = String.join(", ", Collections.nCopies(codigos.size(), "?"));
+        return jdbcTemplate.queryForList("select codigo from vagas where codigo in (" + parametros + ") for update",
+                String.class, codigos.toArray());
+    }
+
+    private static void atribuirIds(PreparedStatement ps, List<Vaga> lote) throws SQLException {
+        try (ResultSet ids = ps.getGeneratedKeys()) {
+            for (int i = 0; i < lote.size() && ids.next(); i++) {
+                lote.get(i).setId(ids.getLong(1));
+            }
+        }
+    }
+
+}
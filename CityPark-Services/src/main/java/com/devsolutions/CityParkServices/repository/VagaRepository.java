@@ -1,13 +1,44 @@
 package com.devsolutions.CityParkServices.repository;
 
 import com.devsolutions.CityParkServices.entity.Vaga;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
-public interface VagaRepository extends JpaRepository<Vaga, Long> {
-   Optional <Vaga> findByCodigo(String codigo);
+public interface VagaRepository extends JpaRepository<Vaga, Long>, VagaCacheRepository {
 
-   Optional <Vaga> findFirstByStatus(Vaga.StatusVaga statusVaga);
+   @Query("select v.codigo from Vaga v where v.codigo in :codigos")
+   List<String> findCodigosByCodigoIn(Collection<String> codigos);
+
+   @Query("select v.id from Vaga v where v.status = :status")
+   List<Long> findIdsByStatus(Vaga.StatusVaga status);
+
+   // vagas sugeridas pelo alocador, reivindicadas pela chave com as mesmas regras de bloqueio abaixo
+   @Lock(LockModeType.PESSIMISTIC_WRITE)
+   @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+   @Query("select v from Vaga v where v.id in :ids and v.status = :status order by v.id")
+   List<Vaga> findLivresSkipLockedByIdIn(Collection<Long> ids, Vaga.StatusVaga status);
+
+   @Lock(LockModeType.PESSIMISTIC_WRITE)
+   @Query("select v from Vaga v where v.id in :ids and v.status = :status order by v.id")
+   List<Vaga> findLivresForUpdateByIdIn(Collection<Long> ids, Vaga.StatusVaga status);
+
+   // timeout -2 = LockOptions.SKIP_LOCKED: FOR UPDATE SKIP LOCKED, terminais concorrentes pulam as vagas bloqueadas
+   @Lock(LockModeType.PESSIMISTIC_WRITE)
+   @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+   @Query("select v from Vaga v where v.status = :status order by v.id")
+   List<Vaga> findLivresSkipLocked(Vaga.StatusVaga status, Pageable limite);
+
+   // bancos sem SKIP LOCKED (H2): FOR UPDATE espera o lock e reavalia o status antes de devolver a linha
+   @Lock(LockModeType.PESSIMISTIC_WRITE)
+   @Query("select v from Vaga v where v.status = :status order by v.id")
+   List<Vaga> findLivresForUpdate(Vaga.StatusVaga status, Pageable limite);
 
 }
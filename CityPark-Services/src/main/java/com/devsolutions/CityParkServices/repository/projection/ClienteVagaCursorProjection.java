@@ -0,0 +1,26 @@
+package com.devsolutions.CityParkServices.repository.projection;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * {@link ClienteVagaProjection} acrescida do id, usado apenas para montar o cursor da próxima página.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClienteVagaCursorProjection(@JsonIgnore Long id,
+                                          String placa,
+                                          String marca,
+                                          String modelo,
+                                          String cor,
+                                          String clienteCpf,
+                                          String recibo,
+                                          @JsonFormat(pattern = "yyyy-MM-dd hh:mm:ss") LocalDateTime dataEntrada,
+                                          @JsonFormat(pattern = "yyyy-MM-dd hh:mm:ss") LocalDateTime dataSaida,
+                                          String vagaCodigo,
+                                          BigDecimal valor,
+                                          BigDecimal desconto) {
+}
@@ -6,30 +6,19 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * Linha do histórico de estacionamentos montada por constructor expression: uma única alocação por linha, sem proxy.
+ */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public interface ClienteVagaProjection {
-
-    String getPlaca();
-
-    String getMarca();
-
-    String getModelo();
-
-    String getCor();
-
-    String getClienteCpf();
-
-    String getRecibo();
-
-    @JsonFormat(pattern = "yyyy-MM-dd hh:mm:ss")
-    LocalDateTime getDataEntrada();
-
-    @JsonFormat(pattern = "yyyy-MM-dd hh:mm:ss")
-    LocalDateTime getDataSaida();
-
-    String getVagaCodigo();
-
-    BigDecimal getValor();
-
-    BigDecimal getDesconto();
+public record ClienteVagaProjection(String placa,
+                                    String marca,
+                                    String modelo,
+                                    String cor,
+                                    String clienteCpf,
+                                    String recibo,
+                                    @JsonFormat(pattern = "yyyy-MM-dd hh:mm:ss") LocalDateTime dataEntrada,
+                                    @JsonFormat(pattern = "yyyy-MM-dd hh:mm:ss") LocalDateTime dataSaida,
+                                    String vagaCodigo,
+                                    BigDecimal valor,
+                                    BigDecimal desconto) {
 }
@@ -0,0 +1,11 @@
+package com.devsolutions.CityParkServices.repository.projection;
+
+public interface ContadorDivergenteProjection {
+
+    String getCpf();
+
+    long getContador();
+
+    long getTotal();
+
+}
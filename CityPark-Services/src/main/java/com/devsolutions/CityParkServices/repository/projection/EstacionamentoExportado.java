@@ -0,0 +1,25 @@
+package com.devsolutions.CityParkServices.repository.projection;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EstacionamentoExportado(String placa,
+                                      String marca,
+                                      String modelo,
+                                      String cor,
+                                      String clienteCpf,
+                                      String recibo,
+                                      @JsonFormat(pattern = FORMATO_DATA) LocalDateTime dataEntrada,
+                                      @JsonFormat(pattern = FORMATO_DATA) LocalDateTime dataSaida,
+                                      String vagaCodigo,
+                                      BigDecimal valor,
+                                      BigDecimal desconto) {
+
+    // formato de 24 horas, o mesmo no NDJSON e no CSV
+    public static final String FORMATO_DATA = "yyyy-MM-dd HH:mm:ss";
+
+}
@@ -0,0 +1,6 @@
+package com.devsolutions.CityParkServices.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record ReciboAberto(String recibo, Long id, Long vagaId, Long clienteId, LocalDateTime dataEntrada) {
+}
@@ -0,0 +1,13 @@
+package com.devsolutions.CityParkServices.repository.projection;
+
+import com.devsolutions.CityParkServices.entity.Usuario;
+
+public interface UsuarioProjection {
+
+    Long getId();
+
+    String getUsername();
+
+    Usuario.Role getRole();
+
+}
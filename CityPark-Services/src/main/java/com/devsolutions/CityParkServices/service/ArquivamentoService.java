@@ -0,0 +1,69 @@
+package com.devsolutions.CityParkServices.service;
+
+import com.devsolutions.CityParkServices.repository.ClienteVagaJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Mantém a tabela de estacionamentos enxuta: os concluídos há mais de {@code citypark.arquivamento.idade} vão para
+ * o arquivo em lotes, cada um na própria transação, para não segurar bloqueios sobre a tabela quente. O histórico
+ * continua lendo as duas tabelas; a idade também decide quando a exportação pode ler só a tabela quente.
+ */
+@Slf4j
+@Service
+public class ArquivamentoService {
+
+    private final ClienteVagaJdbcRepository jdbcRepository;
+    private final TransactionTemplate transacaoPorLote;
+    private final boolean habilitado;
+    private final Duration idade;
+    private final int tamanhoLote;
+
+    public ArquivamentoService(ClienteVagaJdbcRepository jdbcRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${citypark.arquivamento.habilitado:true}") boolean habilitado,
+                               @Value("${citypark.arquivamento.idade:90d}") Duration idade,
+                               @Value("${citypark.arquivamento.lote:1000}") int tamanhoLote) {
+        if (idade.isNegative() || idade.isZero()) {
+            throw new IllegalArgumentException("citypark.arquivamento.idade deve ser positiva");
+        }
+        this.jdbcRepository = jdbcRepository;
+        this.transacaoPorLote = new TransactionTemplate(transactionManager);
+        this.habilitado = habilitado;
+        this.idade = idade;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Scheduled(initialDelayString = "${citypark.arquivamento.atraso-inicial:PT5M}",
+            fixedDelayString = "${citypark.arquivamento.intervalo:PT1H}")
+    public void agendado() {
+        if (habilitado) {
+            arquivar();
+        }
+    }
+
+    /**
+     * @return total de estacionamentos arquivados nesta execução
+     */
+    public int arquivar() {
+        LocalDateTime corte = LocalDateTime.now().minus(idade);
+        int total = 0;
+        int movidos;
+        do {
+            movidos = transacaoPorLote.execute(status -> jdbcRepository.arquivarLote(corte, tamanhoLote));
+            total += movidos;
+        } while (movidos == tamanhoLote);
+        if (total > 0) {
+            log.info("{} estacionamento(s) concluído(s) antes de {} arquivado(s)", total, corte);
+        }
+        return total;
+    }
+
+}
@@ -5,6 +5,7 @@ import com.devsolutions.CityParkServices.repository.ClienteRepository;
 import com.devsolutions.CityParkServices.exception.CpfUniqueViolationException;
 import com.devsolutions.CityParkServices.repository.projection.ClienteProjection;
 import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
+import com.devsolutions.CityParkServices.util.TransacaoUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
@@ -12,7 +13,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -50,10 +54,29 @@ public class ClienteService {
 
     @Transactional(readOnly = true)
     public Cliente buscarPorCpf(String cpf) {
-        return clienteRepository.findByCpf(cpf).orElseThrow(
+        return clienteRepository.findByNaturalId(cpf).orElseThrow(
                 () -> new EntityNotFoundException(String.format("Cliente com CPF '%s' não encontrado",cpf))
         );
     }
+
+    @Transactional(readOnly = true)
+    public Map<String, Cliente> buscarPorCpfs(Collection<String> cpfs) {
+        return clienteRepository.findAllByNaturalIdIn(cpfs).stream()
+                .collect(Collectors.toMap(Cliente::getCpf, Function.identity()));
+    }
+
+    /**
+     * Incrementa o contador de estacionamentos concluídos do cliente e retorna o valor anterior ao incremento. O
+     * cliente sai do cache de segundo nível somente após o commit.
+     */
+    @Transactional
+    public long incrementarEstacionamentosConcluidos(Cliente cliente, long quantidade) {
+        Long id = cliente.getId();
+        clienteRepository.incrementarEstacionamentosConcluidos(id, quantidade);
+        // antes do commit um leitor concorrente recolocaria o valor antigo no cache
+        TransacaoUtils.aposCommit(() -> clienteRepository.evictCache(id));
+        return clienteRepository.findEstacionamentosConcluidosById(id) - quantidade;
+    }
 }
 
 
@@ -2,27 +2,76 @@ package com.devsolutions.CityParkServices.service;
 
 import com.devsolutions.CityParkServices.entity.ClienteVaga;
 import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
+import com.devsolutions.CityParkServices.repository.ClienteVagaJdbcRepository;
 import com.devsolutions.CityParkServices.repository.ClienteVagaRepository;
+import com.devsolutions.CityParkServices.repository.projection.ClienteVagaCursorProjection;
 import com.devsolutions.CityParkServices.repository.projection.ClienteVagaProjection;
+import com.devsolutions.CityParkServices.repository.projection.ReciboAberto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 @RequiredArgsConstructor
 @Service
 public class ClienteVagaService {
 
     private final ClienteVagaRepository repository;
+    private final ClienteVagaJdbcRepository jdbcRepository;
+    private final RecibosAbertosIndex recibosAbertos;
 
     @Transactional
     public ClienteVaga salvar(ClienteVaga clienteVaga) {
-        return repository.save(clienteVaga);
+        ClienteVaga salvo = repository.save(clienteVaga);
+        if (salvo.getDataSaida() == null) {
+            recibosAbertos.registrar(salvo);
+        } else {
+            recibosAbertos.remover(salvo.getRecibo());
+        }
+        return salvo;
+    }
+
+    @Transactional
+    public void salvarEmLote(List<ClienteVaga> registros) {
+        if (!registros.isEmpty()) {
+            jdbcRepository.inserirEmLote(registros);
+            registros.forEach(recibosAbertos::registrar);
+        }
+    }
+
+    /**
+     * Grava os check-outs do lote em um único flush: com {@code hibernate.jdbc.batch_size} e {@code order_updates} os
+     * updates dos registros e das vagas seguem agrupados em lotes JDBC, não um comando por recibo.
+     */
+    @Transactional
+    public void atualizarEmLote(List<ClienteVaga> registros) {
+        if (!registros.isEmpty()) {
+            repository.saveAll(registros);
+            repository.flush();
+            registros.forEach(registro -> recibosAbertos.remover(registro.getRecibo()));
+        }
     }
 
     @Transactional(readOnly = true)
     public ClienteVaga buscarPorRecibo(String recibo) {
+        ReciboAberto aberto = recibosAbertos.buscar(recibo);
+        if (aberto != null) {
+            Optional<ClienteVaga> clienteVaga = repository.findComClienteEVagaById(aberto.id())
+                    .filter(encontrado -> encontrado.getDataSaida() == null);
+            if (clienteVaga.isPresent()) {
+                return clienteVaga.get();
+            }
+        }
         return repository.findByReciboAndDataSaidaIsNull(recibo).orElseThrow(
                 () ->new EntityNotFoundException(
                         String.format("Recibo %s não encontrado no sistema ou check-out já realizado", recibo)
@@ -32,9 +81,31 @@ public class ClienteVagaService {
     }
 
     @Transactional(readOnly = true)
-    public long getTotalDeVezesEstacionamentoCompleto(String cpf) {
-        return repository.countByClienteCpfAndDataSaidaIsNotNull(cpf);
+    public Map<String, ClienteVaga> buscarPorRecibos(Collection<String> recibos) {
+        List<Long> ids = new ArrayList<>();
+        Set<String> naoIndexados = new HashSet<>();
+        for (String recibo : recibos) {
+            ReciboAberto aberto = recibosAbertos.buscar(recibo);
+            if (aberto != null) {
+                ids.add(aberto.id());
+            } else {
+                naoIndexados.add(recibo);
+            }
+        }
+
+        Map<String, ClienteVaga> abertos = new HashMap<>();
+        if (!ids.isEmpty()) {
+            repository.findAllByIdInAndDataSaidaIsNull(ids)
+                    .forEach(clienteVaga -> abertos.put(clienteVaga.getRecibo(), clienteVaga));
+        }
+        recibos.stream().filter(recibo -> !abertos.containsKey(recibo)).forEach(naoIndexados::add);
+        if (!naoIndexados.isEmpty()) {
+            repository.findAllByReciboInAndDataSaidaIsNull(naoIndexados)
+                    .forEach(clienteVaga -> abertos.put(clienteVaga.getRecibo(), clienteVaga));
+        }
+        return abertos;
     }
+
     @Transactional(readOnly = true)
     public Page<ClienteVagaProjection> buscarTodosPorClienteCpf(String cpf, Pageable pageable) {
         return repository.findAllByClienteCpf(cpf, pageable);
@@ -44,4 +115,32 @@ public class ClienteVagaService {
     public Page<ClienteVagaProjection> buscarTodosPorUsuarioId(Long id, Pageable pageable) {
         return repository.findAllByClienteUsuarioId(id, pageable);
     }
+
+    /**
+     * Página por cursor ordenada por (dataEntrada, id); retorna até {@code size + 1} registros para indicar se há
+     * próxima página, sem consulta de contagem.
+     */
+    @Transactional(readOnly = true)
+    public List<ClienteVagaCursorProjection> buscarTodosPorClienteCpf(String cpf, PosicaoCursor posicao, int size) {
+        return posicao == null
+                ? jdbcRepository.buscarHistoricoPorClienteCpf(cpf, null, null, size + 1)
+                : jdbcRepository.buscarHistoricoPorClienteCpf(cpf, posicao.dataEntrada(), posicao.id(), size + 1);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClienteVagaCursorProjection> buscarTodosPorUsuarioId(Long id, PosicaoCursor posicao, int size) {
+        return posicao == null
+                ? jdbcRepository.buscarHistoricoPorUsuarioId(id, null, null, size + 1)
+                : jdbcRepository.buscarHistoricoPorUsuarioId(id, posicao.dataEntrada(), posicao.id(), size + 1);
+    }
+
+    @Transactional(readOnly = true)
+    public long contarPorClienteCpf(String cpf) {
+        return jdbcRepository.contarHistoricoPorClienteCpf(cpf);
+    }
+
+    @Transactional(readOnly = true)
+    public long contarPorUsuarioId(Long id) {
+        return jdbcRepository.contarHistoricoPorUsuarioId(id);
+    }
 }
@@ -0,0 +1,54 @@
+package com.devsolutions.CityParkServices.service;
+
+import com.devsolutions.CityParkServices.repository.ClienteRepository;
+import com.devsolutions.CityParkServices.repository.projection.ContadorDivergenteProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Mantém o contador de estacionamentos concluídos de cada cliente coerente com o histórico de check-outs. A carga
+ * inicial do contador é feita pela migração que cria a coluna; {@link #recalcular()} fica para correções pontuais.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ContadorEstacionamentosService {
+
+    private final ClienteRepository clienteRepository;
+
+    @Value("${citypark.contador.verificar-na-inicializacao:false}")
+    private boolean verificarNaInicializacao;
+
+    @Transactional
+    public int recalcular() {
+        int atualizados = clienteRepository.recalcularEstacionamentosConcluidos();
+        log.info("Contador de estacionamentos concluídos recalculado para {} cliente(s)", atualizados);
+        return atualizados;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ContadorDivergenteProjection> verificar() {
+        List<ContadorDivergenteProjection> divergentes = clienteRepository.findContadoresDivergentes();
+        divergentes.forEach(divergente -> log.warn(
+                "Contador de estacionamentos do CPF {} divergente: contador={}, check-outs={}",
+                divergente.getCpf(), divergente.getContador(), divergente.getTotal()
+        ));
+        return divergentes;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void aoIniciar() {
+        if (verificarNaInicializacao) {
+            verificar();
+        }
+    }
+
+}
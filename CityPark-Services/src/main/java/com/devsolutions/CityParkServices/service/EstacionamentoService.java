@@ -1,16 +1,29 @@
 package com.devsolutions.CityParkServices.service;
 
 
+import com.devsolutions.CityParkServices.datasource.JanelaLeituraPropria;
 import com.devsolutions.CityParkServices.entity.Cliente;
 import com.devsolutions.CityParkServices.entity.ClienteVaga;
 import com.devsolutions.CityParkServices.entity.Vaga;
-import com.devsolutions.CityParkServices.util.EstacionamentoUtils;
+import com.devsolutions.CityParkServices.exception.CpfUniqueViolationException;
+import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
+import com.devsolutions.CityParkServices.util.ReciboGenerator;
+import com.devsolutions.CityParkServices.util.TarifaEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -19,6 +32,9 @@ public class EstacionamentoService {
     private final ClienteVagaService clienteVagaService;
     private final ClienteService clienteService;
     private final VagaService vagaService;
+    private final ReciboGenerator reciboGenerator;
+    private final TarifaEngine tarifaEngine;
+    private final JanelaLeituraPropria janelaLeituraPropria;
 
     @Transactional
     public ClienteVaga checkin(ClienteVaga clienteVaga) {
@@ -31,50 +47,122 @@ public class EstacionamentoService {
 
         clienteVaga.setDataEntrada(LocalDateTime.now());
 
-        clienteVaga.setRecibo(EstacionamentoUtils.gerarRecibo());
+        clienteVaga.setRecibo(reciboGenerator.gerarRecibo());
 
+        // o cliente consulta o recibo e o histórico logo após o check-in feito pelo admin
+        janelaLeituraPropria.registrar(cliente.getUsuario().getId());
         return clienteVagaService.salvar(clienteVaga);
 
     }
 
+    @Transactional
+    public List<ItemLote<ClienteVaga>> checkinEmLote(List<ClienteVaga> entradas) {
+        Map<String, Cliente> clientes = clienteService.buscarPorCpfs(
+                entradas.stream().map(clienteVaga -> clienteVaga.getCliente().getCpf()).toList()
+        );
+        int totalAceitas = (int) entradas.stream()
+                .map(clienteVaga -> clienteVaga.getCliente().getCpf())
+                .filter(clientes::containsKey)
+                .distinct()
+                .count();
+        Iterator<Vaga> vagas = vagaService.buscarVagasLivres(totalAceitas).iterator();
+
+        LocalDateTime dataEntrada = LocalDateTime.now();
+        List<ItemLote<ClienteVaga>> resultado = new ArrayList<>(entradas.size());
+        List<ClienteVaga> registros = new ArrayList<>(totalAceitas);
+        Set<String> cpfsNoLote = new HashSet<>();
+        for (ClienteVaga clienteVaga : entradas) {
+            String cpf = clienteVaga.getCliente().getCpf();
+            Cliente cliente = clientes.get(cpf);
+            if (cliente == null) {
+                resultado.add(ItemLote.falha(
+                        new EntityNotFoundException(String.format("Cliente com CPF '%s' não encontrado", cpf))
+                ));
+                continue;
+            }
+            if (!cpfsNoLote.add(cpf)) {
+                resultado.add(ItemLote.falha(new CpfUniqueViolationException(
+                        String.format("Cliente com CPF '%s' repetido no lote", cpf))));
+                continue;
+            }
+            if (!vagas.hasNext()) {
+                resultado.add(ItemLote.falha(new EntityNotFoundException("Nenhuma vaga livre foi encontrada")));
+                continue;
+            }
+            Vaga vaga = vagas.next();
+            vaga.setStatus(Vaga.StatusVaga.OCUPADA);
+
+            clienteVaga.setCliente(cliente);
+            clienteVaga.setVaga(vaga);
+            clienteVaga.setDataEntrada(dataEntrada);
+            clienteVaga.setRecibo(reciboGenerator.gerarRecibo());
+            registros.add(clienteVaga);
+            resultado.add(ItemLote.sucesso(clienteVaga));
+            janelaLeituraPropria.registrar(cliente.getUsuario().getId());
+        }
+
+        clienteVagaService.salvarEmLote(registros);
+        return resultado;
+    }
+
     @Transactional
     public ClienteVaga checkout(String recibo) {
         ClienteVaga clienteVaga = clienteVagaService.buscarPorRecibo(recibo);
 
         LocalDateTime dataSaida = LocalDateTime.now();
 
-        BigDecimal valor = EstacionamentoUtils.calcularCusto(clienteVaga.getDataEntrada(), dataSaida);
+        BigDecimal valor = tarifaEngine.calcularCusto(clienteVaga.getDataEntrada(), dataSaida);
         clienteVaga.setValor(valor);
 
-        long totalDeVezes = clienteVagaService.getTotalDeVezesEstacionamentoCompleto(clienteVaga.getCliente().getCpf());
+        long totalDeVezes = clienteService.incrementarEstacionamentosConcluidos(clienteVaga.getCliente(), 1);
 
-        BigDecimal desconto = EstacionamentoUtils.calcularDesconto(valor, totalDeVezes);
+        BigDecimal desconto = tarifaEngine.calcularDesconto(valor, totalDeVezes);
         clienteVaga.setDesconto(desconto);
 
         clienteVaga.setDataSaida(dataSaida);
-        clienteVaga.getVaga().setStatus(Vaga.StatusVaga.LIVRE);
+        vagaService.liberar(clienteVaga.getVaga());
 
+        janelaLeituraPropria.registrar(clienteVaga.getCliente().getUsuario().getId());
         return clienteVagaService.salvar(clienteVaga);
 
     }
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 
+    @Transactional
+    public List<ItemLote<ClienteVaga>> checkoutEmLote(List<String> recibos) {
+        Map<String, ClienteVaga> abertos = clienteVagaService.buscarPorRecibos(recibos);
+        Map<Cliente, Long> saidasPorCliente = abertos.values().stream()
+                .collect(Collectors.groupingBy(ClienteVaga::getCliente, Collectors.counting()));
+        Map<Cliente, Long> totalDeVezes = new HashMap<>();
+        saidasPorCliente.keySet().stream().sorted(Comparator.comparing(Cliente::getId)).forEach(cliente ->
+                totalDeVezes.put(cliente,
+                        clienteService.incrementarEstacionamentosConcluidos(cliente, saidasPorCliente.get(cliente))));
+        saidasPorCliente.keySet().forEach(cliente -> janelaLeituraPropria.registrar(cliente.getUsuario().getId()));
 
+        LocalDateTime dataSaida = LocalDateTime.now();
+        List<ItemLote<ClienteVaga>> resultado = new ArrayList<>(recibos.size());
+        List<ClienteVaga> registros = new ArrayList<>(abertos.size());
+        for (String recibo : recibos) {
+            ClienteVaga clienteVaga = abertos.remove(recibo);
+            if (clienteVaga == null) {
+                resultado.add(ItemLote.falha(new EntityNotFoundException(
+                        String.format("Recibo %s não encontrado no sistema ou check-out já realizado", recibo)
+                )));
+                continue;
+            }
+
+            BigDecimal valor = tarifaEngine.calcularCusto(clienteVaga.getDataEntrada(), dataSaida);
+            clienteVaga.setValor(valor);
+
+            long totalDoCliente = totalDeVezes.merge(clienteVaga.getCliente(), 1L, Long::sum) - 1;
+            clienteVaga.setDesconto(tarifaEngine.calcularDesconto(valor, totalDoCliente));
+
+            clienteVaga.setDataSaida(dataSaida);
+            vagaService.liberar(clienteVaga.getVaga());
+            registros.add(clienteVaga);
+            resultado.add(ItemLote.sucesso(clienteVaga));
+        }
+        clienteVagaService.atualizarEmLote(registros);
+        return resultado;
 
+    }
+}
@@ -0,0 +1,158 @@
+package com.devsolutions.CityParkServices.service;
+
+import com.devsolutions.CityParkServices.repository.ClienteVagaJdbcRepository;
+import com.devsolutions.CityParkServices.repository.projection.EstacionamentoExportado;
+import com.devsolutions.CityParkServices.repository.projection.UsuarioProjection;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * Exporta o histórico de estacionamentos e a lista de usuários diretamente para o stream de saída, uma linha por vez.
+ * As consultas rodam em transação somente leitura e vão para a réplica quando configurada.
+ */
+@RequiredArgsConstructor
+@Service
+public class ExportacaoService {
+
+    public enum Formato {
+        NDJSON, CSV
+    }
+
+    private static final String CABECALHO_CSV =
+            "placa,marca,modelo,cor,clienteCpf,recibo,dataEntrada,dataSaida,vagaCodigo,valor,desconto\n";
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern(EstacionamentoExportado.FORMATO_DATA);
+
+    private final ClienteVagaJdbcRepository jdbcRepository;
+    private final UsuarioService usuarioService;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportar(String cpf, LocalDateTime inicio, LocalDateTime fim, Formato formato, OutputStream saida)
+            throws IOException {
+        try {
+            if (formato == Formato.CSV) {
+                exportarCsv(cpf, inicio, fim, saida);
+            } else {
+                exportarNdjson(cpf, inicio, fim, saida);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Escreve cada usuário na forma devolvida por {@code representacao}, definida pela camada web.
+     */
+    public void exportarUsuarios(Function<UsuarioProjection, ?> representacao, OutputStream saida) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.setRootValueSeparator(null);
+            usuarioService.exportar(usuario -> {
+                try {
+                    writer.writeValue(gerador, representacao.apply(usuario));
+                    gerador.writeRaw('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void exportarNdjson(String cpf, LocalDateTime inicio, LocalDateTime fim, OutputStream saida)
+            throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(EstacionamentoExportado.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.setRootValueSeparator(null);
+            jdbcRepository.exportar(cpf, inicio, fim, registro -> {
+                try {
+                    writer.writeValue(gerador, registro);
+                    gerador.writeRaw('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+
+    private void exportarCsv(String cpf, LocalDateTime inicio, LocalDateTime fim, OutputStream saida)
+            throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8))) {
+            writer.write(CABECALHO_CSV);
+            jdbcRepository.exportar(cpf, inicio, fim, registro -> {
+                try {
+                    escreverCsv(writer, registro);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+
+    private static void escreverCsv(Writer writer, EstacionamentoExportado registro) throws IOException {
+        escreverCampo(writer, registro.placa());
+        writer.write(',');
+        escreverCampo(writer, registro.marca());
+        writer.write(',');
+        escreverCampo(writer, registro.modelo());
+        writer.write(',');
+        escreverCampo(writer, registro.cor());
+        writer.write(',');
+        escreverCampo(writer, registro.clienteCpf());
+        writer.write(',');
+        escreverCampo(writer, registro.recibo());
+        writer.write(',');
+        escreverCampo(writer, formatar(registro.dataEntrada()));
+        writer.write(',');
+        escreverCampo(writer, formatar(registro.dataSaida()));
+        writer.write(',');
+        escreverCampo(writer, registro.vagaCodigo());
+        writer.write(',');
+        escreverCampo(writer, formatar(registro.valor()));
+        writer.write(',');
+        escreverCampo(writer, formatar(registro.desconto()));
+        writer.write('\n');
+    }
+
+    private static void escreverCampo(Writer writer, String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            writer.write(valor);
+            return;
+        }
+        writer.write('"');
+        writer.write(valor.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String formatar(LocalDateTime data) {
+        return data == null ? null : FORMATO_DATA.format(data);
+    }
+
+    private static String formatar(BigDecimal valor) {
+        return valor == null ? null : valor.toPlainString();
+    }
+
+}
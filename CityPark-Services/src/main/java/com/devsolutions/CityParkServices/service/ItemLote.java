@@ -0,0 +1,17 @@
+package com.devsolutions.CityParkServices.service;
+
+public record ItemLote<T>(T valor, RuntimeException erro) {
+
+    public static <T> ItemLote<T> sucesso(T valor) {
+        return new ItemLote<>(valor, null);
+    }
+
+    public static <T> ItemLote<T> falha(RuntimeException erro) {
+        return new ItemLote<>(null, erro);
+    }
+
+    public boolean isSucesso() {
+        return erro == null;
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.devsolutions.CityParkServices.service;
+
+import java.time.LocalDateTime;
+
+public record PosicaoCursor(LocalDateTime dataEntrada, Long id) {
+}
@@ -0,0 +1,55 @@
+package com.devsolutions.CityParkServices.service;
+
+import com.devsolutions.CityParkServices.entity.ClienteVaga;
+import com.devsolutions.CityParkServices.repository.ClienteVagaRepository;
+import com.devsolutions.CityParkServices.repository.projection.ReciboAberto;
+import com.devsolutions.CityParkServices.util.TransacaoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória dos estacionamentos em aberto, indexado pelo número do recibo.
+ * Alterações só são aplicadas após o commit da transação de check-in ou check-out.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RecibosAbertosIndex {
+
+    private final ClienteVagaRepository repository;
+
+    private final Map<String, ReciboAberto> abertos = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        List<ReciboAberto> recibos = repository.findAllRecibosAbertos();
+        abertos.clear();
+        recibos.forEach(recibo -> abertos.put(recibo.recibo(), recibo));
+        log.info("Índice de recibos abertos carregado com {} recibo(s)", recibos.size());
+    }
+
+    public ReciboAberto buscar(String recibo) {
+        return abertos.get(recibo);
+    }
+
+    public void registrar(ClienteVaga clienteVaga) {
+        if (clienteVaga.getId() == null) {
+            return;
+        }
+        ReciboAberto recibo = new ReciboAberto(clienteVaga.getRecibo(), clienteVaga.getId(),
+                clienteVaga.getVaga().getId(), clienteVaga.getCliente().getId(), clienteVaga.getDataEntrada());
+        TransacaoUtils.aposCommit(() -> abertos.put(recibo.recibo(), recibo));
+    }
+
+    public void remover(String recibo) {
+        TransacaoUtils.aposCommit(() -> abertos.remove(recibo));
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.devsolutions.CityParkServices.service;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+@Getter
+public class RelatorioJob {
+
+    public enum Status {
+        PENDENTE, PROCESSANDO, CONCLUIDO, FALHA
+    }
+
+    private final String id;
+    private final Long usuarioId;
+    private final String cpf;
+    private final LocalDateTime dataCriacao;
+    private volatile Status status = Status.PENDENTE;
+    private volatile Path arquivo;
+    private volatile String mensagem;
+
+    public RelatorioJob(String id, Long usuarioId, String cpf) {
+        this.id = id;
+        this.usuarioId = usuarioId;
+        this.cpf = cpf;
+        this.dataCriacao = LocalDateTime.now();
+    }
+
+    void processando() {
+        this.status = Status.PROCESSANDO;
+    }
+
+    void concluido(Path arquivo) {
+        this.arquivo = arquivo;
+        this.status = Status.CONCLUIDO;
+    }
+
+    void falha(String mensagem) {
+        this.mensagem = mensagem;
+        this.status = Status.FALHA;
+    }
+
+}
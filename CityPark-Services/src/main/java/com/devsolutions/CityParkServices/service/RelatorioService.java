@@ -0,0 +1,167 @@
+package com.devsolutions.CityParkServices.service;
+
+import com.devsolutions.CityParkServices.config.SpringExecutorConfig;
+import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
+import com.devsolutions.CityParkServices.exception.RelatorioFalhaException;
+import com.devsolutions.CityParkServices.exception.RelatorioIndisponivelException;
+import com.devsolutions.CityParkServices.repository.ClienteVagaJRDataSource;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JasperExportManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRLoader;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gera o relatório de estacionamentos em PDF em segundo plano. O relatório compilado é carregado uma única vez e o
+ * preenchimento usa um virtualizador em disco, mantendo a memória limitada mesmo para históricos grandes. Os jobs
+ * expirados e seus arquivos são removidos periodicamente ({@code citypark.relatorio.limpeza}). Falhas da geração não
+ * chegam a quem solicitou como exceção: ficam no job, com status {@code FALHA} e a mensagem consultada pelo GET.
+ */
+@Slf4j
+@Service
+public class RelatorioService {
+
+    private static final String RELATORIO = "reports/estacionamentos.jasper";
+    private static final String IMAGEM_DIRETORIO = "reports/";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JasperReport relatorio;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<String, RelatorioJob> jobs = new ConcurrentHashMap<>();
+    private final Path diretorio;
+    private final Duration expiracao;
+    private final int fetchSize;
+
+    public RelatorioService(JdbcTemplate jdbcTemplate,
+                            @Qualifier(SpringExecutorConfig.RELATORIO_EXECUTOR) ThreadPoolTaskExecutor executor,
+                            @Value("${citypark.relatorio.diretorio:${java.io.tmpdir}}") String diretorio,
+                            @Value("${citypark.relatorio.expiracao:1h}") Duration expiracao,
+                            @Value("${citypark.exportacao.fetch-size:500}") int fetchSize) throws IOException, JRException {
+        this.jdbcTemplate = jdbcTemplate;
+        try (InputStream in = new ClassPathResource(RELATORIO).getInputStream()) {
+            this.relatorio = (JasperReport) JRLoader.loadObject(in);
+        }
+        this.diretorio = Files.createDirectories(Path.of(diretorio, "citypark-relatorios"));
+        this.expiracao = expiracao;
+        this.fetchSize = fetchSize;
+        this.executor = executor;
+    }
+
+    public RelatorioJob solicitar(Long usuarioId, String cpf) {
+        RelatorioJob job = new RelatorioJob(UUID.randomUUID().toString(), usuarioId, cpf);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> gerar(job));
+        } catch (TaskRejectedException ex) {
+            jobs.remove(job.getId());
+            throw new RelatorioIndisponivelException("Limite de relatórios em processamento atingido, tente novamente");
+        }
+        return job;
+    }
+
+    public RelatorioJob buscar(String id, Long usuarioId) {
+        RelatorioJob job = jobs.get(id);
+        if (job == null || !job.getUsuarioId().equals(usuarioId)) {
+            throw new EntityNotFoundException(String.format("Relatório %s não encontrado", id));
+        }
+        return job;
+    }
+
+    public Path buscarArquivo(String id, Long usuarioId) {
+        RelatorioJob job = buscar(id, usuarioId);
+        if (job.getStatus() != RelatorioJob.Status.CONCLUIDO) {
+            throw new EntityNotFoundException(String.format("Relatório %s ainda não está disponível", id));
+        }
+        return job.getArquivo();
+    }
+
+    private void gerar(RelatorioJob job) {
+        job.processando();
+        JRSwapFileVirtualizer virtualizer = new JRSwapFileVirtualizer(100,
+                new JRSwapFile(diretorio.toString(), 4096, 100), true);
+        try {
+            Path arquivo = diretorio.resolve(job.getId() + ".pdf");
+            JasperPrint print = preencher(job.getCpf(), virtualizer);
+            try (OutputStream out = Files.newOutputStream(arquivo)) {
+                JasperExportManager.exportReportToPdfStream(print, out);
+            }
+            job.concluido(arquivo);
+        } catch (RelatorioFalhaException ex) {
+            log.error(String.format("Falha ao gerar o relatório %s", job.getId()), ex);
+            job.falha(ex.getMessage());
+        } catch (Exception ex) {
+            log.error(String.format("Falha ao gerar o relatório %s", job.getId()), ex);
+            job.falha("Falha ao gerar o relatório");
+        } finally {
+            virtualizer.cleanup();
+        }
+    }
+
+    private JasperPrint preencher(String cpf, JRSwapFileVirtualizer virtualizer) {
+        Map<String, Object> parametros = new HashMap<>();
+        parametros.put("CPF", cpf);
+        parametros.put("IMAGEM_DIRETORIO", IMAGEM_DIRETORIO);
+        parametros.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+        return jdbcTemplate.execute((ConnectionCallback<JasperPrint>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(ClienteVagaJRDataSource.SELECT_RELATORIO,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(fetchSize);
+                ps.setString(1, cpf);
+                try (ResultSet rs = ps.executeQuery()) {
+                    JasperPrint print = JasperFillManager.fillReport(relatorio, parametros, new ClienteVagaJRDataSource(rs));
+                    virtualizer.setReadOnly(true);
+                    return print;
+                } catch (JRException ex) {
+                    throw new RelatorioFalhaException("Falha ao preencher o relatório de estacionamentos", ex);
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${citypark.relatorio.limpeza:PT5M}")
+    public void removerExpirados() {
+        LocalDateTime limite = LocalDateTime.now().minus(expiracao);
+        jobs.values().removeIf(job -> {
+            boolean expirado = job.getDataCriacao().isBefore(limite)
+                    && job.getStatus() != RelatorioJob.Status.PENDENTE
+                    && job.getStatus() != RelatorioJob.Status.PROCESSANDO;
+            if (expirado && job.getArquivo() != null) {
+                try {
+                    Files.deleteIfExists(job.getArquivo());
+                } catch (IOException ex) {
+                    log.warn("Não foi possível remover o relatório {}", job.getArquivo());
+                }
+            }
+            return expirado;
+        });
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.devsolutions.CityParkServices.service;
+
+public record UsuarioAlteradoEvent(String username) {
+}
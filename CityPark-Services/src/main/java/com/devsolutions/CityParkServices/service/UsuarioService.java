@@ -2,28 +2,44 @@ package com.devsolutions.CityParkServices.service;
 
 import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
 import com.devsolutions.CityParkServices.entity.Usuario;
+import com.devsolutions.CityParkServices.exception.OrdenacaoInvalidaException;
 import com.devsolutions.CityParkServices.exception.PasswordInvalidException;
 import com.devsolutions.CityParkServices.repository.UsuarioRepository;
+import com.devsolutions.CityParkServices.repository.projection.UsuarioProjection;
 import com.devsolutions.CityParkServices.exception.UsernameUniqueviolationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
 public class UsuarioService {
 
+    public static final int LIMITE_LISTAGEM = 100;
+
+    private static final Set<String> ORDENACAO_PERMITIDA = Set.of("id", "username", "role");
+
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Usuario salvar(Usuario usuario) {
         try {
             usuario.setPassword(passwordEncoder.encode(usuario.getPassword()));
-            return usuarioRepository.save(usuario);
+            Usuario salvo = usuarioRepository.save(usuario);
+            eventPublisher.publishEvent(new UsuarioAlteradoEvent(salvo.getUsername()));
+            return salvo;
         } catch (org.springframework.dao.DataIntegrityViolationException ex) {
             throw new UsernameUniqueviolationException(String.format("Username %s já cadastrado", usuario.getUsername()));
         }
@@ -49,14 +65,49 @@ public class UsuarioService {
         }
 
         user.setPassword(passwordEncoder.encode(novaSenha));
+        eventPublisher.publishEvent(new UsuarioAlteradoEvent(user.getUsername()));
         return user;
 
     }
 
+    /**
+     * Os primeiros {@link #LIMITE_LISTAGEM} usuários por id; o restante é lido pela paginação.
+     */
+    @Transactional(readOnly = true)
+    public List<UsuarioProjection> buscarTodos() {
+        return usuarioRepository.findPrimeiros(PageRequest.ofSize(LIMITE_LISTAGEM));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<UsuarioProjection> buscarTodos(Pageable pageable) {
+        pageable.getSort().stream()
+                .filter(ordem -> !ORDENACAO_PERMITIDA.contains(ordem.getProperty()))
+                .findFirst()
+                .ifPresent(ordem -> {
+                    throw new OrdenacaoInvalidaException(
+                            String.format("Ordenação por '%s' não permitida", ordem.getProperty()));
+                });
+        return usuarioRepository.findAllPageable(pageable);
+    }
+
+    /**
+     * Paginação por cursor: retorna até {@code tamanho + 1} usuários com id maior que {@code aposId}.
+     */
+    @Transactional(readOnly = true)
+    public List<UsuarioProjection> buscarTodos(Long aposId, int tamanho) {
+        Pageable limite = PageRequest.ofSize(tamanho + 1);
+        return aposId == null
+                ? usuarioRepository.findPrimeiros(limite)
+                : usuarioRepository.findProximos(aposId, limite);
+    }
+
     @Transactional(readOnly = true)
-    public List<Usuario> buscarTodos() {
-        return usuarioRepository.findAll();
+    public void exportar(Consumer<UsuarioProjection> consumidor) {
+        try (Stream<UsuarioProjection> usuarios = usuarioRepository.streamAll()) {
+            usuarios.forEach(consumidor);
+        }
     }
+
     @Transactional(readOnly = true)
     public Usuario buscarPorUsername(String username) {
         return usuarioRepository.findByUsername(username).orElseThrow(
@@ -64,9 +115,4 @@ public class UsuarioService {
         );
 
     }
-    @Transactional(readOnly = true)
-    public Usuario.Role buscarRolePorUsername(String username) {
-        return usuarioRepository.findRoleByUsername(username);
-
-    }
 }
@@ -0,0 +1,99 @@
+package com.devsolutions.CityParkServices.service;
+
+import com.devsolutions.CityParkServices.repository.VagaRepository;
+import com.devsolutions.CityParkServices.util.TransacaoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static com.devsolutions.CityParkServices.entity.Vaga.StatusVaga.LIVRE;
+
+/**
+ * Mantém em memória o estado livre/ocupada das vagas em um bitmap indexado pelo id da vaga. É apenas uma dica: as
+ * vagas sugeridas ainda são reivindicadas no banco pela chave, que continua sendo a fonte da verdade entre
+ * instâncias. Uma dica desatualizada custa só a consulta por status, e a recarga periódica traz as vagas liberadas
+ * por outras instâncias.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VagaAllocator {
+
+    private final VagaRepository vagaRepository;
+
+    private final BitSet livres = new BitSet();
+    private final BitSet reservadas = new BitSet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${citypark.vagas.recarga-alocador:PT5M}",
+            fixedDelayString = "${citypark.vagas.recarga-alocador:PT5M}")
+    public void carregar() {
+        List<Long> ids = vagaRepository.findIdsByStatus(LIVRE);
+        synchronized (this) {
+            livres.clear();
+            for (Long id : ids) {
+                int indice = indice(id);
+                if (!reservadas.get(indice)) {
+                    livres.set(indice);
+                }
+            }
+        }
+        log.debug("Alocador de vagas carregado com {} vaga(s) livre(s)", ids.size());
+    }
+
+    /**
+     * Retira até {@code quantidade} vagas do bitmap; voltam a ele se a transação sofrer rollback, exceto as
+     * {@link #descartar(Long) descartadas}.
+     */
+    public synchronized List<Long> reservar(int quantidade) {
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (int indice = livres.nextSetBit(0); indice >= 0 && ids.size() < quantidade;
+             indice = livres.nextSetBit(indice + 1)) {
+            int reservada = indice;
+            livres.clear(reservada);
+            reservadas.set(reservada);
+            TransacaoUtils.aposConclusao(commit -> concluirReserva(reservada, commit));
+            ids.add((long) reservada);
+        }
+        return ids;
+    }
+
+    // a sugestão não estava livre no banco: não volta ao bitmap nem em caso de rollback
+    public synchronized void descartar(Long id) {
+        reservadas.clear(indice(id));
+    }
+
+    // vaga obtida fora do bitmap (consulta por status)
+    public synchronized void ocupar(Long id) {
+        livres.clear(indice(id));
+    }
+
+    public void liberar(Long id) {
+        TransacaoUtils.aposCommit(() -> marcarLivre(id));
+    }
+
+    private synchronized void marcarLivre(Long id) {
+        livres.set(indice(id));
+    }
+
+    private synchronized void concluirReserva(int indice, boolean commit) {
+        if (reservadas.get(indice)) {
+            reservadas.clear(indice);
+            if (!commit) {
+                livres.set(indice);
+            }
+        }
+    }
+
+    private static int indice(Long id) {
+        return Math.toIntExact(id);
+    }
+
+}
@@ -3,12 +3,29 @@ package com.devsolutions.CityParkServices.service;
 import com.devsolutions.CityParkServices.entity.Vaga;
 import com.devsolutions.CityParkServices.exception.CodigoUniqueViolationException;
 import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
+import com.devsolutions.CityParkServices.exception.VagaInvalidaException;
+import com.devsolutions.CityParkServices.repository.VagaJdbcRepository;
 import com.devsolutions.CityParkServices.repository.VagaRepository;
+import com.devsolutions.CityParkServices.util.CodigoVagaUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
 import static com.devsolutions.CityParkServices.entity.Vaga.StatusVaga.LIVRE;
 
 @RequiredArgsConstructor
@@ -16,12 +33,31 @@ import static com.devsolutions.CityParkServices.entity.Vaga.StatusVaga.LIVRE;
 
 public class VagaService {
 
+    private static final int LIMITE_LOTE = 5000;
+    private static final int TAMANHO_CONSULTA = 1000;
+    private static final int TENTATIVAS_INSERCAO = 3;
+
     private final VagaRepository vagaRepository;
+    private final VagaJdbcRepository vagaJdbcRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final VagaAllocator vagaAllocator;
+
+    private boolean skipLocked;
+
+    @PostConstruct
+    void detectarSkipLocked() {
+        skipLocked = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().supportsSkipLocked();
+    }
 
     @Transactional
     public Vaga salvar(Vaga vaga) {
         try {
-            return vagaRepository.save(vaga);
+            Vaga salva = vagaRepository.save(vaga);
+            if (salva.getStatus() == LIVRE) {
+                vagaAllocator.liberar(salva.getId());
+            }
+            return salva;
         } catch (DataIntegrityViolationException ex) {
             throw new CodigoUniqueViolationException(
                     String.format("Vaga com código '%s' já cadastrada", vaga.getCodigo())
@@ -29,17 +65,139 @@ public class VagaService {
         }
     }
 
+    /**
+     * Cadastra as vagas com um único insert em lote. Códigos inválidos, repetidos na requisição ou já cadastrados
+     * são recusados individualmente; o resultado segue a ordem da lista recebida.
+     */
+    @Transactional
+    public List<ItemLote<Vaga>> salvarEmLote(List<Vaga> vagas) {
+        if (vagas.isEmpty() || vagas.size() > LIMITE_LOTE) {
+            throw new VagaInvalidaException(
+                    String.format("O lote deve conter entre 1 e %d vagas, recebidas %d", LIMITE_LOTE, vagas.size()));
+        }
+        Set<String> existentes = buscarCodigosExistentes(vagas, vagaRepository::findCodigosByCodigoIn);
+        Set<String> recebidos = new HashSet<>();
+        Map<String, Integer> posicoes = new HashMap<>();
+        List<Vaga> novas = new ArrayList<>(vagas.size());
+        List<ItemLote<Vaga>> resultado = new ArrayList<>(vagas.size());
+        for (Vaga vaga : vagas) {
+            String codigo = vaga.getCodigo();
+            if (codigo == null || codigo.length() != CodigoVagaUtils.TAMANHO_CODIGO || vaga.getStatus() == null) {
+                resultado.add(ItemLote.falha(new VagaInvalidaException(
+                        String.format("Vaga com código '%s' inválida", codigo))));
+            } else if (!recebidos.add(codigo)) {
+                resultado.add(ItemLote.falha(new CodigoUniqueViolationException(
+                        String.format("Vaga com código '%s' repetida no lote", codigo))));
+            } else if (existentes.contains(codigo)) {
+                resultado.add(ItemLote.falha(new CodigoUniqueViolationException(
+                        String.format("Vaga com código '%s' já cadastrada", codigo))));
+            } else {
+                posicoes.put(codigo, resultado.size());
+                novas.add(vaga);
+                resultado.add(ItemLote.sucesso(vaga));
+            }
+        }
+        inserirNovas(novas, resultado, posicoes);
+        return resultado;
+    }
+
+    /**
+     * Outra requisição pode cadastrar um dos códigos entre a consulta e o insert. O insert é desfeito por inteiro,
+     * os códigos que passaram a existir são relidos com bloqueio e recusados um a um, e as demais vagas são
+     * inseridas novamente.
+     */
+    private void inserirNovas(List<Vaga> novas, List<ItemLote<Vaga>> resultado, Map<String, Integer> posicoes) {
+        List<Vaga> pendentes = novas;
+        for (int tentativa = 1; !pendentes.isEmpty(); tentativa++) {
+            try {
+                vagaJdbcRepository.inserirEmLote(pendentes);
+                pendentes.stream().filter(vaga -> vaga.getStatus() == LIVRE)
+                        .forEach(vaga -> vagaAllocator.liberar(vaga.getId()));
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                Set<String> cadastrados = buscarCodigosExistentes(pendentes, vagaJdbcRepository::bloquearCodigosExistentes);
+                if (cadastrados.isEmpty() || tentativa == TENTATIVAS_INSERCAO) {
+                    throw new CodigoUniqueViolationException(
+                            "Vagas do lote foram cadastradas por outra requisição, nenhuma vaga foi criada");
+                }
+                for (String codigo : cadastrados) {
+                    resultado.set(posicoes.get(codigo), ItemLote.falha(new CodigoUniqueViolationException(
+                            String.format("Vaga com código '%s' já cadastrada", codigo))));
+                }
+                pendentes = pendentes.stream().filter(vaga -> !cadastrados.contains(vaga.getCodigo())).toList();
+            }
+        }
+    }
+
+    private Set<String> buscarCodigosExistentes(List<Vaga> vagas, Function<List<String>, List<String>> consulta) {
+        List<String> codigos = vagas.stream().map(Vaga::getCodigo).filter(Objects::nonNull).distinct().toList();
+        Set<String> existentes = new HashSet<>();
+        for (int inicio = 0; inicio < codigos.size(); inicio += TAMANHO_CONSULTA) {
+            existentes.addAll(consulta.apply(
+                    codigos.subList(inicio, Math.min(inicio + TAMANHO_CONSULTA, codigos.size()))));
+        }
+        return existentes;
+    }
+
     @Transactional(readOnly = true)
     public Vaga buscarPorCodigo(String codigo) {
-        return vagaRepository.findByCodigo(codigo).orElseThrow(
+        return vagaRepository.findByNaturalId(codigo).orElseThrow(
                 () -> new EntityNotFoundException(String.format("Vaga com código '%s' não foi encontrada", codigo))
         );
     }
 
+    @Transactional
     public Vaga buscarPorVagaLivre() {
-        return vagaRepository.findFirstByStatus(LIVRE).orElseThrow(
+        return reservarVagasLivres(1).stream().findFirst().orElseThrow(
                 () -> new EntityNotFoundException("Nenhuma vaga livre foi encontrada")
         );
 
     }
-}
\ No newline at end of file
+
+    @Transactional
+    public List<Vaga> buscarVagasLivres(int quantidade) {
+        return reservarVagasLivres(quantidade);
+    }
+
+    @Transactional
+    public void liberar(Vaga vaga) {
+        vaga.setStatus(LIVRE);
+        vagaAllocator.liberar(vaga.getId());
+    }
+
+    /**
+     * Reivindica no banco até {@code quantidade} vagas livres, bloqueadas até o fim da transação. As sugeridas pelo
+     * {@link VagaAllocator} são lidas pela chave; só a falta delas (bitmap desatualizado ou vazio) leva à consulta por
+     * status. Sob disputa podem voltar menos vagas que o pedido; quem chama trata a falta como ausência de vaga livre.
+     */
+    private List<Vaga> reservarVagasLivres(int quantidade) {
+        if (quantidade <= 0) {
+            return new ArrayList<>();
+        }
+        Map<Long, Vaga> reservadas = new LinkedHashMap<>();
+        List<Long> sugeridas = vagaAllocator.reservar(quantidade);
+        if (!sugeridas.isEmpty()) {
+            List<Vaga> vagas = skipLocked
+                    ? vagaRepository.findLivresSkipLockedByIdIn(sugeridas, LIVRE)
+                    : vagaRepository.findLivresForUpdateByIdIn(sugeridas, LIVRE);
+            vagas.forEach(vaga -> reservadas.put(vaga.getId(), vaga));
+            sugeridas.stream().filter(id -> !reservadas.containsKey(id)).forEach(vagaAllocator::descartar);
+        }
+        if (reservadas.size() < quantidade) {
+            // as vagas já bloqueadas por esta transação também voltam na consulta, por isso pede a quantidade total
+            PageRequest limite = PageRequest.of(0, quantidade);
+            List<Vaga> livres = skipLocked
+                    ? vagaRepository.findLivresSkipLocked(LIVRE, limite)
+                    : vagaRepository.findLivresForUpdate(LIVRE, limite);
+            for (Vaga vaga : livres) {
+                if (reservadas.size() == quantidade) {
+                    break;
+                }
+                if (reservadas.putIfAbsent(vaga.getId(), vaga) == null) {
+                    vagaAllocator.ocupar(vaga.getId());
+                }
+            }
+        }
+        return new ArrayList<>(reservadas.values());
+    }
+}
@@ -0,0 +1,54 @@
+package com.devsolutions.CityParkServices.util;
+
+import com.devsolutions.CityParkServices.exception.VagaInvalidaException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CodigoVagaUtils {
+
+    public static final int TAMANHO_CODIGO = 4;
+
+    private static final String SEPARADOR_FAIXA = "..";
+
+    /**
+     * Expande uma faixa no formato {@code B-01..B-99} nos códigos que ela contém. O início e o fim devem ter o
+     * mesmo prefixo e a mesma quantidade de dígitos, que é mantida com zeros à esquerda.
+     */
+    public static List<String> expandir(String faixa) {
+        int separador = faixa.indexOf(SEPARADOR_FAIXA);
+        if (separador < 0) {
+            throw new VagaInvalidaException(String.format("Faixa '%s' inválida, use o formato B-01..B-99", faixa));
+        }
+        String inicio = faixa.substring(0, separador).trim();
+        String fim = faixa.substring(separador + SEPARADOR_FAIXA.length()).trim();
+        int digitos = contarDigitosFinais(inicio);
+        String prefixo = inicio.substring(0, inicio.length() - digitos);
+        if (digitos == 0 || inicio.length() != fim.length() || !fim.startsWith(prefixo)
+                || contarDigitosFinais(fim) != digitos || inicio.length() != TAMANHO_CODIGO) {
+            throw new VagaInvalidaException(String.format("Faixa '%s' inválida, use o formato B-01..B-99", faixa));
+        }
+        int primeiro = Integer.parseInt(inicio.substring(prefixo.length()));
+        int ultimo = Integer.parseInt(fim.substring(prefixo.length()));
+        if (primeiro > ultimo) {
+            throw new VagaInvalidaException(String.format("Faixa '%s' inválida, início maior que o fim", faixa));
+        }
+        List<String> codigos = new ArrayList<>(ultimo - primeiro + 1);
+        String formato = "%s%0" + digitos + "d";
+        for (int numero = primeiro; numero <= ultimo; numero++) {
+            codigos.add(String.format(formato, prefixo, numero));
+        }
+        return codigos;
+    }
+
+    private static int contarDigitosFinais(String codigo) {
+        int digitos = 0;
+        while (digitos < codigo.length() && Character.isDigit(codigo.charAt(codigo.length() - 1 - digitos))) {
+            digitos++;
+        }
+        return digitos;
+    }
+}
@@ -0,0 +1,7 @@
+package com.devsolutions.CityParkServices.util;
+
+public interface ReciboGenerator {
+
+    String gerarRecibo();
+
+}
@@ -0,0 +1,64 @@
+package com.devsolutions.CityParkServices.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Recibo de 13 caracteres em base 36 formado por 41 bits de milissegundos desde 2024-01-01 UTC,
+ * 10 bits de id do nó e 12 bits de sequência. Recibos do mesmo nó são únicos e crescentes;
+ * ao esgotar a sequência de um milissegundo o gerador avança para o seguinte em vez de esperar.
+ */
+@Component
+public class SnowflakeReciboGenerator implements ReciboGenerator {
+
+    static final long EPOCA = 1704067200000L;
+
+    private static final int BITS_NO = 10;
+    private static final int BITS_SEQUENCIA = 12;
+    private static final long MAX_NO = (1L << BITS_NO) - 1;
+    private static final long MASCARA_SEQUENCIA = (1L << BITS_SEQUENCIA) - 1;
+
+    private static final int TAMANHO = 13;
+    private static final char[] ALFABETO = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private final long no;
+    private final LongSupplier relogio;
+    private final AtomicLong ultimo = new AtomicLong();
+
+    @Autowired
+    public SnowflakeReciboGenerator(@Value("${citypark.recibo.no-id:0}") long no) {
+        this(no, System::currentTimeMillis);
+    }
+
+    SnowflakeReciboGenerator(long no, LongSupplier relogio) {
+        if (no < 0 || no > MAX_NO) {
+            throw new IllegalArgumentException(String.format("Id do nó deve estar entre 0 e %d", MAX_NO));
+        }
+        this.no = no;
+        this.relogio = relogio;
+    }
+
+    @Override
+    public String gerarRecibo() {
+        long agora = (relogio.getAsLong() - EPOCA) << BITS_SEQUENCIA;
+        long proximo = ultimo.accumulateAndGet(agora, (anterior, atual) -> atual > anterior ? atual : anterior + 1);
+
+        long timestamp = proximo >>> BITS_SEQUENCIA;
+        long sequencia = proximo & MASCARA_SEQUENCIA;
+        return formatar((timestamp << (BITS_NO + BITS_SEQUENCIA)) | (no << BITS_SEQUENCIA) | sequencia);
+    }
+
+    private static String formatar(long valor) {
+        char[] digitos = new char[TAMANHO];
+        for (int i = TAMANHO - 1; i >= 0; i--) {
+            digitos[i] = ALFABETO[(int) (valor % ALFABETO.length)];
+            valor /= ALFABETO.length;
+        }
+        return new String(digitos);
+    }
+
+}
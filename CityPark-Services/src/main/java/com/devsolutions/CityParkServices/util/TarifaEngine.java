@@ -0,0 +1,87 @@
+package com.devsolutions.CityParkServices.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Motor de tarifas imutável que calcula preços em centavos ({@code long}).
+ * {@link BigDecimal} só é criado nos métodos de borda. A tabela vigente é montada a partir de {@code citypark.tarifa.*}.
+ */
+public final class TarifaEngine {
+
+    private static final long MINUTOS_POR_DIA = 24 * 60;
+
+    private final long primeiroBlocoMinutos;
+    private final long primeiroBlocoCentavos;
+    private final long blocoHoraMinutos;
+    private final long blocoHoraCentavos;
+    private final long adicionalMinutos;
+    private final long adicionalCentavos;
+    private final long tetoDiarioCentavos;
+    private final long descontoPercentual;
+    private final long descontoACada;
+
+    public TarifaEngine(long primeiroBlocoMinutos, long primeiroBlocoCentavos,
+                        long blocoHoraMinutos, long blocoHoraCentavos,
+                        long adicionalMinutos, long adicionalCentavos,
+                        long tetoDiarioCentavos, long descontoPercentual, long descontoACada) {
+        if (primeiroBlocoMinutos <= 0 || blocoHoraMinutos < primeiroBlocoMinutos || adicionalMinutos <= 0) {
+            throw new IllegalArgumentException("Tabela de tarifas inválida: blocos de tempo inconsistentes");
+        }
+        if (tetoDiarioCentavos < 0 || descontoPercentual < 0 || descontoPercentual > 100 || descontoACada <= 0) {
+            throw new IllegalArgumentException("Tabela de tarifas inválida: teto ou desconto fora do intervalo");
+        }
+        this.primeiroBlocoMinutos = primeiroBlocoMinutos;
+        this.primeiroBlocoCentavos = primeiroBlocoCentavos;
+        this.blocoHoraMinutos = blocoHoraMinutos;
+        this.blocoHoraCentavos = blocoHoraCentavos;
+        this.adicionalMinutos = adicionalMinutos;
+        this.adicionalCentavos = adicionalCentavos;
+        this.tetoDiarioCentavos = tetoDiarioCentavos;
+        this.descontoPercentual = descontoPercentual;
+        this.descontoACada = descontoACada;
+    }
+
+    public long calcularCustoCentavos(long minutos) {
+        long custo = custoSemTeto(minutos);
+        if (tetoDiarioCentavos == 0 || minutos <= 0) {
+            return custo;
+        }
+        long dias = minutos / MINUTOS_POR_DIA;
+        long resto = minutos % MINUTOS_POR_DIA;
+        long comTeto = dias * tetoDiarioCentavos + (resto == 0 ? 0 : Math.min(custoSemTeto(resto), tetoDiarioCentavos));
+        return Math.min(custo, comTeto);
+    }
+
+    /**
+     * Desconto em centavos, arredondado com metade para baixo como no cálculo anterior em {@code double}.
+     */
+    public long calcularDescontoCentavos(long custoCentavos, long numeroDeVezes) {
+        if (numeroDeVezes <= 0 || numeroDeVezes % descontoACada != 0) {
+            return 0;
+        }
+        return (custoCentavos * descontoPercentual + 49) / 100;
+    }
+
+    public BigDecimal calcularCusto(LocalDateTime entrada, LocalDateTime saida) {
+        return BigDecimal.valueOf(calcularCustoCentavos(entrada.until(saida, ChronoUnit.MINUTES)), 2);
+    }
+
+    public BigDecimal calcularDesconto(BigDecimal custo, long numeroDeVezes) {
+        return BigDecimal.valueOf(calcularDescontoCentavos(custo.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact(), numeroDeVezes), 2);
+    }
+
+    private long custoSemTeto(long minutos) {
+        if (minutos <= primeiroBlocoMinutos) {
+            return primeiroBlocoCentavos;
+        }
+        if (minutos <= blocoHoraMinutos) {
+            return blocoHoraCentavos;
+        }
+        long adicionais = (minutos - blocoHoraMinutos + adicionalMinutos - 1) / adicionalMinutos;
+        return blocoHoraCentavos + adicionais * adicionalCentavos;
+    }
+
+}
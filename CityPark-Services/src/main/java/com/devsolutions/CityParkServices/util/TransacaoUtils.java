@@ -0,0 +1,35 @@
+package com.devsolutions.CityParkServices.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransacaoUtils {
+
+    public static void aposCommit(Runnable acao) {
+        aposConclusao(commit -> {
+            if (commit) {
+                acao.run();
+            }
+        });
+    }
+
+    // Sem transação ativa a ação é executada imediatamente, como se tivesse havido commit.
+    public static void aposConclusao(Consumer<Boolean> acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                acao.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.devsolutions.CityParkServices.web.controller;
 
-import com.devsolutions.CityParkServices.jwt.JwtToken;
-import com.devsolutions.CityParkServices.jwt.JwtUserDetailsService;
+import com.devsolutions.CityParkServices.jwt.JwtLoginService;
 import com.devsolutions.CityParkServices.web.dto.UsuarioLoginDto;
 import com.devsolutions.CityParkServices.web.dto.UsuarioResponseDto;
 import com.devsolutions.CityParkServices.web.exception.ErrorMessage;
@@ -14,17 +13,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.naming.Name;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Tag(name = "Autenticação", description = "Recurso para proceder com a autenticação na API")
 @Slf4j
@@ -34,8 +34,7 @@ import javax.naming.Name;
 
 public class AutenticacaoController {
 
-    private final JwtUserDetailsService detailsService;
-    private final AuthenticationManager authenticationManager;
+    private final JwtLoginService loginService;
 
     @Operation(summary = "Autenticar na API", description = "Recurso de autenticação na API",
             responses = {
@@ -45,27 +44,34 @@ public class AutenticacaoController {
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "422", description = "Campo(s) inválido(s)",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "503", description = "Serviço de autenticação sobrecarregado",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
 
             })
 
     @PostMapping("/auth")
-    public ResponseEntity<?> autenticar(@RequestBody @Valid UsuarioLoginDto dto, HttpServletRequest request) {
-        log.info("Processo de autenticação pelo login {}", dto.getUsername());        try {
-            UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(dto.getUsername(), dto.getPassword());
-
-            authenticationManager.authenticate(authenticationToken);
-
-            JwtToken token = detailsService.getTokenAuthenticated(dto.getUsername());
-
-            return ResponseEntity.ok(token);
-
-        } catch (AuthenticationException ex) {
-            log.warn("Bad Credentials from username '{}'", dto.getUsername());
-        }
-        return ResponseEntity
-                .badRequest()
-                .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, "Credenciais Inválidas"));
+    public CompletableFuture<ResponseEntity<?>> autenticar(@RequestBody @Valid UsuarioLoginDto dto, HttpServletRequest request) {
+        log.info("Processo de autenticação pelo login {}", dto.getUsername());
+        return loginService.autenticar(dto.getUsername(), dto.getPassword()).<ResponseEntity<?>>handle((token, erro) -> {
+            if (erro == null) {
+                return ResponseEntity.ok(token);
+            }
+            Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+            if (causa instanceof TaskRejectedException) {
+                log.warn("Login de '{}' recusado: pool de autenticação saturado", dto.getUsername());
+                return ResponseEntity
+                        .status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(new ErrorMessage(request, HttpStatus.SERVICE_UNAVAILABLE, "Serviço de autenticação sobrecarregado"));
+            }
+            if (causa instanceof AuthenticationException) {
+                log.warn("Bad Credentials from username '{}'", dto.getUsername());
+                return ResponseEntity
+                        .badRequest()
+                        .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, "Credenciais Inválidas"));
+            }
+            throw new CompletionException(causa);
+        });
     }
 
 }
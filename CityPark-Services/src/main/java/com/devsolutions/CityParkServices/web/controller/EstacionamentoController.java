@@ -2,14 +2,27 @@ package com.devsolutions.CityParkServices.web.controller;
 
 import com.devsolutions.CityParkServices.entity.ClienteVaga;
 import com.devsolutions.CityParkServices.jwt.JwtUserDetails;
+import com.devsolutions.CityParkServices.repository.projection.ClienteVagaCursorProjection;
 import com.devsolutions.CityParkServices.repository.projection.ClienteVagaProjection;
+import com.devsolutions.CityParkServices.service.ClienteService;
 import com.devsolutions.CityParkServices.service.ClienteVagaService;
 import com.devsolutions.CityParkServices.service.EstacionamentoService;
+import com.devsolutions.CityParkServices.service.ExportacaoService;
+import com.devsolutions.CityParkServices.service.ItemLote;
+import com.devsolutions.CityParkServices.service.RelatorioJob;
+import com.devsolutions.CityParkServices.service.RelatorioService;
+import com.devsolutions.CityParkServices.web.dto.CursorPageableDto;
 import com.devsolutions.CityParkServices.web.dto.EstacionamentoCreateDto;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoLoteCheckoutDto;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoLoteCreateDto;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoLoteResponseDto;
 import com.devsolutions.CityParkServices.web.dto.EstacionamentoResponseDto;
 import com.devsolutions.CityParkServices.web.dto.PageableDto;
+import com.devsolutions.CityParkServices.web.dto.RelatorioJobDto;
 import com.devsolutions.CityParkServices.web.dto.mapper.ClienteVagaMapper;
+import com.devsolutions.CityParkServices.web.dto.mapper.CursorPageableMapper;
 import com.devsolutions.CityParkServices.web.dto.mapper.PageableMapper;
+import com.devsolutions.CityParkServices.web.dto.mapper.RelatorioJobMapper;
 import com.devsolutions.CityParkServices.web.exception.ErrorMessage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,15 +37,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static io.swagger.v3.oas.annotations.enums.ParameterIn.PATH;
 import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
@@ -43,6 +66,9 @@ import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
 public class EstacionamentoController {
     private final EstacionamentoService estacionamentoService;
     private final ClienteVagaService clienteVagaService;
+    private final ExportacaoService exportacaoService;
+    private final RelatorioService relatorioService;
+    private final ClienteService clienteService;
 
     @Operation(summary = "Operação de check-in", description = "Recurso para dar entrada de um veículo no estacionamento. " +
             "Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
@@ -78,6 +104,32 @@ public class EstacionamentoController {
         return ResponseEntity.created(location).body(responseDto);
 
     }
+    @Operation(summary = "Operação de check-in em lote", description = "Recurso para dar entrada de vários veículos " +
+            "em uma única requisição. Cada entrada recebe seu próprio resultado. " +
+            "Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado; o status de cada entrada indica " +
+                            "201 (check-in realizado) ou 404 (CPF não cadastrado ou nenhuma vaga livre)",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    array = @ArraySchema(schema = @Schema(implementation = EstacionamentoLoteResponseDto.class)))),
+                    @ApiResponse(responseCode = "422", description = "Recurso não processado por falta de dados ou dados inválidos",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permito ao perfil de CLIENTE",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @PostMapping("/check-in/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<EstacionamentoLoteResponseDto>> checkinEmLote(@RequestBody @Valid EstacionamentoLoteCreateDto dto) {
+        List<ClienteVaga> entradas = dto.getEntradas().stream().map(ClienteVagaMapper::toClienteVaga).toList();
+        List<ItemLote<ClienteVaga>> resultado = estacionamentoService.checkinEmLote(entradas);
+        return ResponseEntity.ok(ClienteVagaMapper.toLoteDto(resultado, HttpStatus.CREATED));
+
+    }
+
     @GetMapping("/check-in/{recibo}")
     @PreAuthorize("hasAnyRole('ADMIN', 'CLIENTE')")
     public ResponseEntity<EstacionamentoResponseDto> getByRecibo(@PathVariable String recibo) {
@@ -115,6 +167,30 @@ public class EstacionamentoController {
 
     }
 
+    @Operation(summary = "Operação de check-out em lote", description = "Recurso para dar saída de vários veículos " +
+            "em uma única requisição. Cada recibo recebe seu próprio resultado. " +
+            "Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado; o status de cada recibo indica " +
+                            "200 (check-out realizado) ou 404 (recibo inexistente ou check-out já realizado)",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    array = @ArraySchema(schema = @Schema(implementation = EstacionamentoLoteResponseDto.class)))),
+                    @ApiResponse(responseCode = "422", description = "Recurso não processado por falta de dados ou dados inválidos",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permito ao perfil de CLIENTE",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+    @PutMapping("/check-out/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<EstacionamentoLoteResponseDto>> checkoutEmLote(@RequestBody @Valid EstacionamentoLoteCheckoutDto dto) {
+        List<ItemLote<ClienteVaga>> resultado = estacionamentoService.checkoutEmLote(dto.getRecibos());
+        return ResponseEntity.ok(ClienteVagaMapper.toLoteDto(resultado, HttpStatus.OK));
+
+    }
+
     @Operation(summary = "Localizar os registros de estacionamentos do cliente por CPF", description = "Localizar os " +
             "registros de estacionamentos do cliente por CPF. Requisição exige uso de um bearer token.",
             security = @SecurityRequirement(name = "security"),
@@ -189,4 +265,206 @@ public class EstacionamentoController {
         return ResponseEntity.ok(dto);
     }
 
+    @Operation(summary = "Localizar os registros de estacionamentos do cliente por CPF com paginação por cursor",
+            description = "Localizar os registros de estacionamentos do cliente por CPF, ordenados por data de entrada, " +
+                    "usando o cursor retornado em 'nextCursor' para a próxima página. " +
+                    "Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = PATH, name = "cpf", description = "Nº do CPF referente ao cliente a ser consultado",
+                            required = true
+                    ),
+                    @Parameter(in = QUERY, name = "cursor", description = "Cursor opaco da página; ausente na primeira página"),
+                    @Parameter(in = QUERY, name = "size", description = "Representa o total de elementos por página",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "5", maximum = "100"))
+                    ),
+                    @Parameter(in = QUERY, name = "total", description = "Inclui o total de elementos (executa uma contagem)",
+                            content = @Content(schema = @Schema(type = "boolean", defaultValue = "false"))
+                    )
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = CursorPageableDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permito ao perfil de CLIENTE",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @GetMapping("/cpf/{cpf}/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageableDto> getAllEstacionamentoPorCpfComCursor(@PathVariable String cpf,
+                                                                                @RequestParam(required = false) String cursor,
+                                                                                @RequestParam(defaultValue = "5") int size,
+                                                                                @RequestParam(defaultValue = "false") boolean total) {
+        int tamanho = limitarTamanho(size);
+        List<ClienteVagaCursorProjection> registros = clienteVagaService.buscarTodosPorClienteCpf(
+                cpf, CursorPageableMapper.toPosicao(cursor), tamanho);
+        Long totalElements = total ? clienteVagaService.contarPorClienteCpf(cpf) : null;
+        return ResponseEntity.ok(CursorPageableMapper.toDto(registros, tamanho, totalElements));
+    }
+
+    @Operation(summary = "Localizar os registros de estacionamentos do cliente logado com paginação por cursor",
+            description = "Localizar os registros de estacionamentos do cliente logado, ordenados por data de entrada, " +
+                    "usando o cursor retornado em 'nextCursor' para a próxima página. " +
+                    "Requisição exige uso de um bearer token.",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = QUERY, name = "cursor", description = "Cursor opaco da página; ausente na primeira página"),
+                    @Parameter(in = QUERY, name = "size", description = "Representa o total de elementos por página",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "5", maximum = "100"))
+                    ),
+                    @Parameter(in = QUERY, name = "total", description = "Inclui o total de elementos (executa uma contagem)",
+                            content = @Content(schema = @Schema(type = "boolean", defaultValue = "false"))
+                    )
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = CursorPageableDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permito ao perfil de ADMIN",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('CLIENTE')")
+    public ResponseEntity<CursorPageableDto> getAllEstacionamentoDoClienteComCursor(@AuthenticationPrincipal JwtUserDetails user,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "5") int size,
+                                                                                   @RequestParam(defaultValue = "false") boolean total) {
+        int tamanho = limitarTamanho(size);
+        List<ClienteVagaCursorProjection> registros = clienteVagaService.buscarTodosPorUsuarioId(
+                user.getId(), CursorPageableMapper.toPosicao(cursor), tamanho);
+        Long totalElements = total ? clienteVagaService.contarPorUsuarioId(user.getId()) : null;
+        return ResponseEntity.ok(CursorPageableMapper.toDto(registros, tamanho, totalElements));
+    }
+
+    private static int limitarTamanho(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
+
+    @Operation(summary = "Exportar o histórico de estacionamentos",
+            description = "Exporta em streaming (NDJSON ou CSV) o histórico de estacionamentos, filtrado opcionalmente " +
+                    "por CPF e por intervalo da data de entrada [inicio, fim). " +
+                    "Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = QUERY, name = "cpf", description = "Nº do CPF do cliente; ausente exporta todos"),
+                    @Parameter(in = QUERY, name = "inicio", description = "Data de entrada inicial (inclusiva), ISO-8601"),
+                    @Parameter(in = QUERY, name = "fim", description = "Data de entrada final (exclusiva), ISO-8601"),
+                    @Parameter(in = QUERY, name = "formato", description = "Formato da exportação",
+                            content = @Content(schema = @Schema(type = "string", allowableValues = {"NDJSON", "CSV"},
+                                    defaultValue = "NDJSON"))
+                    )
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exportação gerada com sucesso",
+                            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permito ao perfil de CLIENTE",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @GetMapping("/exportacao")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportar(@RequestParam(required = false) String cpf,
+                                                          @RequestParam(required = false)
+                                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+                                                          @RequestParam(required = false)
+                                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim,
+                                                          @RequestParam(defaultValue = "NDJSON") ExportacaoService.Formato formato) {
+        boolean csv = formato == ExportacaoService.Formato.CSV;
+        StreamingResponseBody corpo = saida -> exportacaoService.exportar(cpf, inicio, fim, formato, saida);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "estacionamentos.csv" : "estacionamentos.ndjson").build().toString())
+                .body(corpo);
+    }
+
+
+    @Operation(summary = "Solicitar o relatório de estacionamentos do cliente logado",
+            description = "Agenda a geração do relatório em PDF e retorna o identificador para acompanhamento. " +
+                    "Requisição exige uso de um bearer token. Acesso restrito a Role='CLIENTE'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Relatório agendado",
+                            headers = @Header(name = HttpHeaders.LOCATION, description = "URL de acompanhamento do relatório"),
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = RelatorioJobDto.class))),
+                    @ApiResponse(responseCode = "503", description = "Limite de relatórios em processamento atingido",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Recurso não permito ao perfil de ADMIN",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @PostMapping("/relatorios")
+    @PreAuthorize("hasRole('CLIENTE')")
+    public ResponseEntity<RelatorioJobDto> solicitarRelatorio(@AuthenticationPrincipal JwtUserDetails user) {
+        String cpf = clienteService.buscarPorUsuarioId(user.getId()).getCpf();
+        RelatorioJob job = relatorioService.solicitar(user.getId(), cpf);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequestUri().path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(RelatorioJobMapper.toDto(job));
+    }
+
+    @Operation(summary = "Consultar a situação de um relatório",
+            description = "Retorna a situação do relatório (PENDENTE, PROCESSANDO, CONCLUIDO ou FALHA). " +
+                    "Requisição exige uso de um bearer token. Acesso restrito a Role='CLIENTE'",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = PATH, name = "id", description = "Identificador do relatório", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recurso localizado com sucesso",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = RelatorioJobDto.class))),
+                    @ApiResponse(responseCode = "404", description = "Relatório não encontrado ou expirado",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @GetMapping("/relatorios/{id}")
+    @PreAuthorize("hasRole('CLIENTE')")
+    public ResponseEntity<RelatorioJobDto> getRelatorio(@PathVariable String id, @AuthenticationPrincipal JwtUserDetails user) {
+        return ResponseEntity.ok(RelatorioJobMapper.toDto(relatorioService.buscar(id, user.getId())));
+    }
+
+    @Operation(summary = "Baixar o PDF de um relatório concluído",
+            description = "Recurso para baixar o relatório gerado. " +
+                    "Requisição exige uso de um bearer token. Acesso restrito a Role='CLIENTE'",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = PATH, name = "id", description = "Identificador do relatório", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Relatório gerado",
+                            content = @Content(mediaType = "application/pdf")),
+                    @ApiResponse(responseCode = "404", description = "Relatório não encontrado, expirado ou ainda não concluído",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @GetMapping("/relatorios/{id}/pdf")
+    @PreAuthorize("hasRole('CLIENTE')")
+    public ResponseEntity<Resource> getRelatorioPdf(@PathVariable String id, @AuthenticationPrincipal JwtUserDetails user) {
+        Resource arquivo = new FileSystemResource(relatorioService.buscarArquivo(id, user.getId()));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("estacionamentos.pdf").build().toString())
+                .body(arquivo);
+    }
+
 }
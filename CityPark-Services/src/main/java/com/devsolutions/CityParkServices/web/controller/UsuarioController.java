@@ -1,13 +1,19 @@
 package com.devsolutions.CityParkServices.web.controller;
 
 import com.devsolutions.CityParkServices.entity.Usuario;
+import com.devsolutions.CityParkServices.service.ExportacaoService;
 import com.devsolutions.CityParkServices.service.UsuarioService;
+import com.devsolutions.CityParkServices.web.dto.CursorPageableDto;
+import com.devsolutions.CityParkServices.web.dto.PageableDto;
 import com.devsolutions.CityParkServices.web.dto.UsuarioCreateDto;
 import com.devsolutions.CityParkServices.web.dto.UsuarioResponseDto;
 import com.devsolutions.CityParkServices.web.dto.UsuarioSenhaDto;
+import com.devsolutions.CityParkServices.web.dto.mapper.CursorPageableMapper;
+import com.devsolutions.CityParkServices.web.dto.mapper.PageableMapper;
 import com.devsolutions.CityParkServices.web.dto.mapper.UsuarioMapper;
 import com.devsolutions.CityParkServices.web.exception.ErrorMessage;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,13 +22,22 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
+import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
+
 @Tag(name = "Usuarios", description = "Inclui todos os parâmetros para cadastro, edição e leitura de um usuário.")
 @RequiredArgsConstructor
 @RestController
@@ -30,6 +45,7 @@ import java.util.List;
 public class UsuarioController {
 
     private final UsuarioService usuarioService;
+    private final ExportacaoService exportacaoService;
 
     @Operation(summary = "Criar um novo usuário", description = "Recurso para criar um novo usuário",
         responses = {
@@ -82,17 +98,19 @@ public class UsuarioController {
          })
 
     @PatchMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'CLIENTE') AND (#id == authentication.principal.id)")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CLIENTE') AND (#id == authentication.principal.id) " +
+            "AND @jwtUsuarioVerifier.confere(authentication)")
     public ResponseEntity<Void> updatePassword(@PathVariable Long id, @Valid @RequestBody UsuarioSenhaDto dto) {
         usuarioService.editarSenha(id, dto.getSenhaAtual(), dto.getNovaSenha(), dto.getConfirmaSenha());
         return ResponseEntity.noContent().build();
 
     }
 
-    @Operation(summary = "listar todos os usuários cadastrado", description = "Requisição exige um Bearer Token. Acesso retrito a ADMIN",
+    @Operation(summary = "listar os usuários cadastrados", description = "Lista os primeiros 100 usuários ordenados por id; " +
+            "os demais são lidos pela paginação. Requisição exige um Bearer Token. Acesso retrito a ADMIN",
             security = @SecurityRequirement(name = "security"),
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Lista com todos os usuários cadastrados",
+                    @ApiResponse(responseCode = "200", description = "Lista com até 100 usuários cadastrados",
                             content = @Content(mediaType = "application/json",
                                     array = @ArraySchema(schema = @Schema(implementation = UsuarioResponseDto.class)))),
                     @ApiResponse(responseCode = "403", description = "Usúario sem permissão para acessar este recurso",
@@ -102,11 +120,96 @@ public class UsuarioController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UsuarioResponseDto>> getALL() {
-        List<Usuario> users = usuarioService.buscarTodos();
-        return ResponseEntity.ok(UsuarioMapper.toListDto(users));
+        List<UsuarioResponseDto> users = usuarioService.buscarTodos().stream().map(UsuarioMapper::toDto).toList();
+        return ResponseEntity.ok(users);
+
+    }
+
+    @Operation(summary = "listar os usuários com paginação", description = "Requisição exige um Bearer Token. Acesso retrito a ADMIN",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = QUERY, name = "page",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "0")),
+                            description = "Representa a página retornada"
+                    ),
+                    @Parameter(in = QUERY, name = "size",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "20")),
+                            description = "Representa o total de elementos por página"
+                    ),
+                    @Parameter(in = QUERY, name = "sort", hidden = true,
+                            array = @ArraySchema(schema = @Schema(type = "string", defaultValue = "id,asc")),
+                            description = "Representa a ordenação dos resultados. Aceita multiplos critérios de ordenação por id, username e role.")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página com os usuários cadastrados",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = PageableDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Ordenação por campo não permitido",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Usúario sem permissão para acessar este recurso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @GetMapping("/paginado")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PageableDto> getAllPaginado(@Parameter(hidden = true) @PageableDefault(size = 20, sort = {"id"}) Pageable pageable) {
+        Page<UsuarioResponseDto> users = usuarioService.buscarTodos(pageable).map(UsuarioMapper::toDto);
+        return ResponseEntity.ok(PageableMapper.toDto(users));
 
     }
 
+    @Operation(summary = "listar os usuários com paginação por cursor",
+            description = "Lista os usuários ordenados por id, usando o cursor retornado em 'nextCursor' para a próxima página. " +
+                    "Requisição exige um Bearer Token. Acesso retrito a ADMIN",
+            security = @SecurityRequirement(name = "security"),
+            parameters = {
+                    @Parameter(in = QUERY, name = "cursor", description = "Cursor opaco da página; ausente na primeira página"),
+                    @Parameter(in = QUERY, name = "size", description = "Representa o total de elementos por página",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "20", maximum = "100"))
+                    )
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página com os usuários cadastrados",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CursorPageableDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Cursor inválido",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "Usúario sem permissão para acessar este recurso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageableDto> getAllComCursor(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        int tamanho = Math.max(1, Math.min(size, 100));
+        List<UsuarioResponseDto> users = usuarioService.buscarTodos(CursorPageableMapper.toId(cursor), tamanho)
+                .stream().map(UsuarioMapper::toDto).toList();
+        return ResponseEntity.ok(CursorPageableMapper.toDto(users, tamanho, null,
+                ultimo -> CursorPageableMapper.toCursor(ultimo.getId())));
+    }
+
+    @Operation(summary = "exportar todos os usuários", description = "Exporta em streaming (NDJSON) todos os usuários, " +
+            "um por linha. Requisição exige um Bearer Token. Acesso retrito a ADMIN",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exportação gerada com sucesso",
+                            content = @Content(mediaType = "application/x-ndjson")),
+                    @ApiResponse(responseCode = "403", description = "Usúario sem permissão para acessar este recurso",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @GetMapping("/exportacao")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarUsuarios(UsuarioMapper::toDto, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("usuarios.ndjson").build().toString())
+                .body(corpo);
+    }
+
 }
 
 
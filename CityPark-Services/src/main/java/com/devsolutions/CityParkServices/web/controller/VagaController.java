@@ -1,13 +1,17 @@
 package com.devsolutions.CityParkServices.web.controller;
 
 import com.devsolutions.CityParkServices.entity.Vaga;
+import com.devsolutions.CityParkServices.service.ItemLote;
 import com.devsolutions.CityParkServices.service.VagaService;
 import com.devsolutions.CityParkServices.web.dto.VagaCreateDto;
+import com.devsolutions.CityParkServices.web.dto.VagaLoteCreateDto;
+import com.devsolutions.CityParkServices.web.dto.VagaLoteResponseDto;
 import com.devsolutions.CityParkServices.web.dto.VagaResponseDto;
 import com.devsolutions.CityParkServices.web.dto.mapper.VagaMapper;
 import com.devsolutions.CityParkServices.web.exception.ErrorMessage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,12 +20,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 
 @Tag(name = "Vagas", description = "Contém todas as opereções relativas ao recurso de uma vaga")
 @RequiredArgsConstructor
@@ -60,6 +69,59 @@ public class VagaController {
 
     }
 
+    @Operation(summary = "Criar vagas em lote", description = "Recurso para cadastrar vagas a partir de faixas de código " +
+            "(ex.: B-01..B-99) e/ou de uma lista de códigos. Cada código recebe seu próprio resultado: 201 criada, " +
+            "409 código já cadastrado ou repetido, 422 código inválido. " +
+            "Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    array = @ArraySchema(schema = @Schema(implementation = VagaLoteResponseDto.class)))),
+                    @ApiResponse(responseCode = "409", description = "Vagas do lote cadastradas concorrentemente; nenhuma vaga foi criada",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "422", description = "Faixa inválida ou lote vazio/acima do limite",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<VagaLoteResponseDto>> createEmLote(@RequestBody @Valid VagaLoteCreateDto dto) {
+        List<Vaga> vagas = VagaMapper.toVagas(dto);
+        List<ItemLote<Vaga>> resultado = vagaService.salvarEmLote(vagas);
+        return ResponseEntity.ok(VagaMapper.toLoteDto(vagas, resultado));
+    }
+
+    @Operation(summary = "Criar vagas em lote a partir de um CSV", description = "Recurso para cadastrar vagas a partir de " +
+            "um arquivo CSV com uma vaga (ou faixa) por linha no formato codigo[,status]. " +
+            "Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
+            security = @SecurityRequirement(name = "security"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    array = @ArraySchema(schema = @Schema(implementation = VagaLoteResponseDto.class)))),
+                    @ApiResponse(responseCode = "409", description = "Vagas do lote cadastradas concorrentemente; nenhuma vaga foi criada",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "422", description = "Faixa inválida ou lote vazio/acima do limite",
+                            content = @Content(mediaType = " application/json;charset=UTF-8",
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            })
+
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<VagaLoteResponseDto>> createEmLoteCsv(@RequestPart("arquivo") MultipartFile arquivo)
+            throws IOException {
+        List<Vaga> vagas;
+        try (InputStream csv = arquivo.getInputStream()) {
+            vagas = VagaMapper.toVagas(csv);
+        }
+        List<ItemLote<Vaga>> resultado = vagaService.salvarEmLote(vagas);
+        return ResponseEntity.ok(VagaMapper.toLoteDto(vagas, resultado));
+    }
+
     @Operation(summary = "Localizar uma vaga", description = "Recurso para retornar uma vaga pelo seu código" +
             "Requisição exige uso de um bearer token. Acesso restrito a Role='ADMIN'",
             security = @SecurityRequirement(name = "security"),
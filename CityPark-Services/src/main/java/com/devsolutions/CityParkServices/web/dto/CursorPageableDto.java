@@ -0,0 +1,24 @@
+package com.devsolutions.CityParkServices.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageableDto {
+
+    private List content = new ArrayList<>();
+
+    private int size;
+
+    private boolean last;
+
+    private String nextCursor;
+
+    private Long totalElements;
+
+}
@@ -0,0 +1,21 @@
+package com.devsolutions.CityParkServices.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class EstacionamentoLoteCreateDto {
+
+    @NotEmpty
+    @Size(max = 500)
+    @Valid
+    private List<EstacionamentoCreateDto> entradas;
+
+}
@@ -0,0 +1,20 @@
+package com.devsolutions.CityParkServices.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EstacionamentoLoteResponseDto {
+    private int indice;
+    private int status;
+    private String mensagem;
+    private EstacionamentoResponseDto estacionamento;
+
+}
@@ -0,0 +1,28 @@
+package com.devsolutions.CityParkServices.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class VagaLoteCreateDto {
+
+    @Size(max = 100)
+    private List<@NotBlank String> faixas = new ArrayList<>();
+
+    @Size(max = 5000)
+    private List<@NotBlank String> codigos = new ArrayList<>();
+
+    @NotNull
+    @Pattern(regexp = "LIVRE|OCUPADA")
+    private String status = "LIVRE";
+
+}
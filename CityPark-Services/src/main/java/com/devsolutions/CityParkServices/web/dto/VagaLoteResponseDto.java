@@ -0,0 +1,19 @@
+package com.devsolutions.CityParkServices.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VagaLoteResponseDto {
+    private String codigo;
+    private int status;
+    private String mensagem;
+
+}
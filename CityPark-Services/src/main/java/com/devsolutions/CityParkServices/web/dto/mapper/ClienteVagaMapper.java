@@ -1,22 +1,68 @@
 package com.devsolutions.CityParkServices.web.dto.mapper;
 
 
+import com.devsolutions.CityParkServices.entity.Cliente;
 import com.devsolutions.CityParkServices.entity.ClienteVaga;
+import com.devsolutions.CityParkServices.exception.CpfUniqueViolationException;
+import com.devsolutions.CityParkServices.exception.EntityNotFoundException;
+import com.devsolutions.CityParkServices.service.ItemLote;
 import com.devsolutions.CityParkServices.web.dto.EstacionamentoCreateDto;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoLoteResponseDto;
 import com.devsolutions.CityParkServices.web.dto.EstacionamentoResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClienteVagaMapper {
 
     public static ClienteVaga toClienteVaga(EstacionamentoCreateDto dto) {
-        return new ModelMapper().map(dto, ClienteVaga.class);
+        ClienteVaga clienteVaga = new ClienteVaga();
+        clienteVaga.setPlaca(dto.getPlaca());
+        clienteVaga.setMarca(dto.getMarca());
+        clienteVaga.setModelo(dto.getModelo());
+        clienteVaga.setCor(dto.getCor());
+        Cliente cliente = new Cliente();
+        cliente.setCpf(dto.getClienteCpf());
+        clienteVaga.setCliente(cliente);
+        return clienteVaga;
     }
 
     public static EstacionamentoResponseDto toDto(ClienteVaga clienteVaga) {
-        return new ModelMapper().map(clienteVaga, EstacionamentoResponseDto.class);
+        return new EstacionamentoResponseDto(
+                clienteVaga.getPlaca(),
+                clienteVaga.getMarca(),
+                clienteVaga.getModelo(),
+                clienteVaga.getCor(),
+                clienteVaga.getCliente() == null ? null : clienteVaga.getCliente().getCpf(),
+                clienteVaga.getRecibo(),
+                clienteVaga.getDataEntrada(),
+                clienteVaga.getDataSaida(),
+                clienteVaga.getVaga() == null ? null : clienteVaga.getVaga().getCodigo(),
+                clienteVaga.getValor(),
+                clienteVaga.getDesconto()
+        );
+    }
+
+    public static List<EstacionamentoLoteResponseDto> toLoteDto(List<ItemLote<ClienteVaga>> itens, HttpStatus sucesso) {
+        List<EstacionamentoLoteResponseDto> dtos = new ArrayList<>(itens.size());
+        for (int indice = 0; indice < itens.size(); indice++) {
+            ItemLote<ClienteVaga> item = itens.get(indice);
+            dtos.add(item.isSucesso()
+                    ? new EstacionamentoLoteResponseDto(indice, sucesso.value(), null, toDto(item.valor()))
+                    : new EstacionamentoLoteResponseDto(indice, toStatus(item.erro()).value(), item.erro().getMessage(), null));
+        }
+        return dtos;
+    }
+
+    private static HttpStatus toStatus(RuntimeException erro) {
+        if (erro instanceof EntityNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        return erro instanceof CpfUniqueViolationException ? HttpStatus.CONFLICT : HttpStatus.UNPROCESSABLE_ENTITY;
     }
 
 }
@@ -0,0 +1,77 @@
+package com.devsolutions.CityParkServices.web.dto.mapper;
+
+import com.devsolutions.CityParkServices.exception.CursorInvalidException;
+import com.devsolutions.CityParkServices.repository.projection.ClienteVagaCursorProjection;
+import com.devsolutions.CityParkServices.service.PosicaoCursor;
+import com.devsolutions.CityParkServices.web.dto.CursorPageableDto;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPageableMapper {
+
+    private static final String SEPARADOR = "|";
+
+    public static PosicaoCursor toPosicao(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+            return new PosicaoCursor(LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.parseLong(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new CursorInvalidException(String.format("Cursor '%s' inválido", cursor));
+        }
+    }
+
+    public static Long toId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new CursorInvalidException(String.format("Cursor '%s' inválido", cursor));
+        }
+    }
+
+    public static String toCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String toCursor(LocalDateTime dataEntrada, Long id) {
+        String valor = dataEntrada + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Recebe até {@code size + 1} registros; o registro excedente apenas indica que existe uma próxima página.
+     */
+    public static CursorPageableDto toDto(List<ClienteVagaCursorProjection> registros, int size, Long total) {
+        return toDto(registros, size, total, ultimo -> toCursor(ultimo.dataEntrada(), ultimo.id()));
+    }
+
+    public static <T> CursorPageableDto toDto(List<T> registros, int size, Long total, Function<T, String> cursor) {
+        CursorPageableDto dto = new CursorPageableDto();
+        boolean last = registros.size() <= size;
+        List<T> content = last ? registros : registros.subList(0, size);
+        dto.setContent(content);
+        dto.setSize(size);
+        dto.setLast(last);
+        if (!last) {
+            dto.setNextCursor(cursor.apply(content.get(content.size() - 1)));
+        }
+        dto.setTotalElements(total);
+        return dto;
+    }
+
+}
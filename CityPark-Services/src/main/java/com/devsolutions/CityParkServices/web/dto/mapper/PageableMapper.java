@@ -3,7 +3,6 @@ package com.devsolutions.CityParkServices.web.dto.mapper;
 import com.devsolutions.CityParkServices.web.dto.PageableDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 
 
@@ -11,7 +10,16 @@ import org.springframework.data.domain.Page;
 public class PageableMapper {
 
     public static PageableDto toDto(Page page) {
-        return new ModelMapper().map(page, PageableDto.class);
+        PageableDto dto = new PageableDto();
+        dto.setContent(page.getContent());
+        dto.setFirst(page.isFirst());
+        dto.setLast(page.isLast());
+        dto.setNumber(page.getNumber());
+        dto.setSize(page.getSize());
+        dto.setNumberOfElements(page.getNumberOfElements());
+        dto.setTotalPages(page.getTotalPages());
+        dto.setTotalElements((int) page.getTotalElements());
+        return dto;
 
     }
 
@@ -0,0 +1,14 @@
+package com.devsolutions.CityParkServices.web.dto.mapper;
+
+import com.devsolutions.CityParkServices.service.RelatorioJob;
+import com.devsolutions.CityParkServices.web.dto.RelatorioJobDto;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RelatorioJobMapper {
+
+    public static RelatorioJobDto toDto(RelatorioJob job) {
+        return new RelatorioJobDto(job.getId(), job.getStatus().name(), job.getMensagem(), job.getDataCriacao());
+    }
+}
@@ -1,38 +1,42 @@
 package com.devsolutions.CityParkServices.web.dto.mapper;
 
 import com.devsolutions.CityParkServices.entity.Usuario;
+import com.devsolutions.CityParkServices.repository.projection.UsuarioProjection;
 import com.devsolutions.CityParkServices.web.dto.UsuarioCreateDto;
 import com.devsolutions.CityParkServices.web.dto.UsuarioResponseDto;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.PropertyMap;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 public class UsuarioMapper {
 
     public static Usuario toUsuario(UsuarioCreateDto createDto) {
-        return new ModelMapper().map(createDto, Usuario.class);
+        Usuario usuario = new Usuario();
+        usuario.setUsername(createDto.getUsername());
+        usuario.setPassword(createDto.getPassword());
+        return usuario;
 
     }
 
     public static UsuarioResponseDto toDto(Usuario usuario) {
         String role = usuario.getRole().name().substring("ROLE_".length());
-        PropertyMap<Usuario, UsuarioResponseDto> props = new PropertyMap<Usuario, UsuarioResponseDto>() {
-            @Override
-            protected void configure() {
-                map().setRole(role);
-            }
-        };
-        ModelMapper mapper = new ModelMapper();
-        mapper.addMappings(props);
-        return mapper.map(usuario, UsuarioResponseDto.class);
+        return new UsuarioResponseDto(usuario.getId(), usuario.getUsername(), role);
+
+    }
+
+    public static UsuarioResponseDto toDto(UsuarioProjection usuario) {
+        String role = usuario.getRole().name().substring("ROLE_".length());
+        return new UsuarioResponseDto(usuario.getId(), usuario.getUsername(), role);
 
     }
 
     public static List<UsuarioResponseDto> toListDto(List<Usuario> usuarios) {
-        return usuarios.stream().map(user -> toDto(user)).collect(Collectors.toList());
+        List<UsuarioResponseDto> dtos = new ArrayList<>(usuarios.size());
+        for (Usuario usuario : usuarios) {
+            dtos.add(toDto(usuario));
+        }
+        return dtos;
 
     }
 
@@ -2,24 +2,115 @@ package com.devsolutions.CityParkServices.web.dto.mapper;
 
 
 import com.devsolutions.CityParkServices.entity.Vaga;
+import com.devsolutions.CityParkServices.exception.CodigoUniqueViolationException;
+import com.devsolutions.CityParkServices.service.ItemLote;
+import com.devsolutions.CityParkServices.util.CodigoVagaUtils;
 import com.devsolutions.CityParkServices.web.dto.VagaCreateDto;
+import com.devsolutions.CityParkServices.web.dto.VagaLoteCreateDto;
+import com.devsolutions.CityParkServices.web.dto.VagaLoteResponseDto;
 import com.devsolutions.CityParkServices.web.dto.VagaResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 
 public class VagaMapper {
 
     public static Vaga toVaga(VagaCreateDto dto) {
-        return new ModelMapper().map(dto, Vaga.class);
+        Vaga vaga = new Vaga();
+        vaga.setCodigo(dto.getCodigo());
+        vaga.setStatus(dto.getStatus() == null ? null : Vaga.StatusVaga.valueOf(dto.getStatus()));
+        return vaga;
     }
 
     public static VagaResponseDto toDto(Vaga vaga) {
-        return new ModelMapper().map(vaga, VagaResponseDto.class);
+        return new VagaResponseDto(vaga.getId(), vaga.getCodigo(),
+                vaga.getStatus() == null ? null : vaga.getStatus().name());
+
+    }
+
 
+    public static List<Vaga> toVagas(VagaLoteCreateDto dto) {
+        Vaga.StatusVaga status = Vaga.StatusVaga.valueOf(dto.getStatus());
+        List<Vaga> vagas = new ArrayList<>();
+        for (String faixa : dto.getFaixas()) {
+            for (String codigo : CodigoVagaUtils.expandir(faixa)) {
+                vagas.add(toVaga(codigo, status));
+            }
+        }
+        for (String codigo : dto.getCodigos()) {
+            vagas.add(toVaga(codigo.trim(), status));
+        }
+        return vagas;
     }
 
+    /**
+     * Lê um CSV com uma vaga por linha no formato {@code codigo[,status]}; o cabeçalho e linhas em branco são
+     * ignorados e o status ausente assume LIVRE.
+     */
+    public static List<Vaga> toVagas(InputStream csv) throws IOException {
+        List<Vaga> vagas = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            String[] campos = linha.split(",", -1);
+            String codigo = campos[0].trim();
+            if (codigo.isEmpty() || codigo.equalsIgnoreCase("codigo")) {
+                continue;
+            }
+            String status = campos.length > 1 ? campos[1].trim().toUpperCase() : "";
+            if (codigo.contains("..")) {
+                for (String codigoFaixa : CodigoVagaUtils.expandir(codigo)) {
+                    vagas.add(toVaga(codigoFaixa, toStatus(status)));
+                }
+            } else {
+                vagas.add(toVaga(codigo, toStatus(status)));
+            }
+        }
+        return vagas;
+    }
+
+    public static List<VagaLoteResponseDto> toLoteDto(List<Vaga> vagas, List<ItemLote<Vaga>> itens) {
+        List<VagaLoteResponseDto> dtos = new ArrayList<>(itens.size());
+        for (int indice = 0; indice < itens.size(); indice++) {
+            ItemLote<Vaga> item = itens.get(indice);
+            String codigo = vagas.get(indice).getCodigo();
+            dtos.add(item.isSucesso()
+                    ? new VagaLoteResponseDto(codigo, HttpStatus.CREATED.value(), null)
+                    : new VagaLoteResponseDto(codigo, toStatus(item.erro()).value(), item.erro().getMessage()));
+        }
+        return dtos;
+    }
+
+    private static Vaga toVaga(String codigo, Vaga.StatusVaga status) {
+        Vaga vaga = new Vaga();
+        vaga.setCodigo(codigo);
+        vaga.setStatus(status);
+        return vaga;
+    }
+
+    private static Vaga.StatusVaga toStatus(String status) {
+        if (status.isEmpty()) {
+            return Vaga.StatusVaga.LIVRE;
+        }
+        try {
+            return Vaga.StatusVaga.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static HttpStatus toStatus(RuntimeException erro) {
+        return erro instanceof CodigoUniqueViolationException ? HttpStatus.CONFLICT : HttpStatus.UNPROCESSABLE_ENTITY;
+    }
 
 }
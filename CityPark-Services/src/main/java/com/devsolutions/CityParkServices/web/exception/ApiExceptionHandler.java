@@ -37,6 +37,16 @@ public class ApiExceptionHandler {
 
     }
 
+    @ExceptionHandler({CursorInvalidException.class, OrdenacaoInvalidaException.class})
+    public ResponseEntity<ErrorMessage> cursorInvalidException(RuntimeException ex, HttpServletRequest request){
+        log.error("Api Error - ", ex);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, ex.getMessage()));
+
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorMessage> entityNotFoundException(RuntimeException ex, HttpServletRequest request){
         log.error("Api Error - ", ex);
@@ -57,6 +67,26 @@ public class ApiExceptionHandler {
 
     }
 
+    @ExceptionHandler(RelatorioIndisponivelException.class)
+    public ResponseEntity<ErrorMessage> relatorioIndisponivelException(RuntimeException ex, HttpServletRequest request){
+        log.error("Api Error - ", ex);
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+
+    }
+
+    @ExceptionHandler(VagaInvalidaException.class)
+    public ResponseEntity<ErrorMessage> vagaInvalidaException(RuntimeException ex, HttpServletRequest request){
+        log.error("Api Error - ", ex);
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage()));
+
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorMessage> methodArgumentNotValidException(MethodArgumentNotValidException ex,
                                                                         HttpServletRequest request,
@@ -0,0 +1,63 @@
+-- Mesmo esquema da migração MySQL, nos tipos do H2.
+create table usuarios (
+    id               bigint       generated by default as identity,
+    username         varchar(100) not null,
+    password         varchar(200) not null,
+    role             enum ('ROLE_ADMIN','ROLE_CLIENTE') not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criado_por       varchar(255),
+    modificado_por   varchar(255),
+    primary key (id),
+    constraint uk_usuarios_username unique (username)
+);
+
+create table clientes (
+    id               bigint       generated by default as identity,
+    nome             varchar(100) not null,
+    cpf              varchar(11)  not null,
+    id_usuario       bigint       not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criado_por       varchar(255),
+    modificado_por   varchar(255),
+    primary key (id),
+    constraint uk_clientes_cpf unique (cpf),
+    constraint uk_clientes_id_usuario unique (id_usuario),
+    constraint fk_clientes_usuarios foreign key (id_usuario) references usuarios (id)
+);
+
+create table vagas (
+    id               bigint     generated by default as identity,
+    codigo           varchar(4) not null,
+    status           enum ('LIVRE','OCUPADA') not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criado_por       varchar(255),
+    modificado_por   varchar(255),
+    primary key (id),
+    constraint uk_vagas_codigo unique (codigo)
+);
+
+create table clientes_tem_vagas (
+    id               bigint      generated by default as identity,
+    numero_recibo    varchar(15) not null,
+    placa            varchar(8)  not null,
+    marca            varchar(45) not null,
+    modelo           varchar(45) not null,
+    cor              varchar(45) not null,
+    data_entrada     timestamp(6) not null,
+    data_saida       timestamp(6),
+    valor            decimal(7,2),
+    desconto         decimal(7,2),
+    id_cliente       bigint      not null,
+    id_vaga          bigint      not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criado_por       varchar(255),
+    modificado_por   varchar(255),
+    primary key (id),
+    constraint uk_clientes_tem_vagas_recibo unique (numero_recibo),
+    constraint fk_clientes_tem_vagas_clientes foreign key (id_cliente) references clientes (id),
+    constraint fk_clientes_tem_vagas_vagas foreign key (id_vaga) references vagas (id)
+);
@@ -0,0 +1,40 @@
+-- Mesma migração do MySQL, nos tipos do H2.
+create table clientes_tem_vagas_arquivo (
+    id               bigint      not null,
+    numero_recibo    varchar(15) not null,
+    placa            varchar(8)  not null,
+    marca            varchar(45) not null,
+    modelo           varchar(45) not null,
+    cor              varchar(45) not null,
+    data_entrada     timestamp(6) not null,
+    data_saida       timestamp(6) not null,
+    valor            decimal(7,2),
+    desconto         decimal(7,2),
+    id_cliente       bigint      not null,
+    id_vaga          bigint      not null,
+    data_criacao     timestamp(6),
+    data_modificacao timestamp(6),
+    criado_por       varchar(255),
+    modificado_por   varchar(255),
+    primary key (id),
+    constraint uk_clientes_tem_vagas_arquivo_recibo unique (numero_recibo),
+    constraint fk_clientes_tem_vagas_arquivo_clientes foreign key (id_cliente) references clientes (id),
+    constraint fk_clientes_tem_vagas_arquivo_vagas foreign key (id_vaga) references vagas (id)
+);
+
+-- Histórico por cliente ordenado por entrada; também atende a contagem de concluídos por cliente.
+create index idx_cva_cliente_entrada on clientes_tem_vagas_arquivo (id_cliente, data_entrada);
+
+-- Seleção dos lotes do arquivamento (concluídos antes do corte).
+create index idx_cv_saida on clientes_tem_vagas (data_saida);
+
+-- Leitura do histórico completo (relatório, exportação, paginação por offset). Ordenação e limite não entram em cada
+-- lado do union: as consultas paginadas e as contagens por cliente leem as duas tabelas diretamente.
+create view historico_estacionamentos as
+    select id, numero_recibo, placa, marca, modelo, cor, data_entrada, data_saida, valor, desconto,
+           id_cliente, id_vaga, data_criacao, data_modificacao, criado_por, modificado_por
+    from clientes_tem_vagas
+    union all
+    select id, numero_recibo, placa, marca, modelo, cor, data_entrada, data_saida, valor, desconto,
+           id_cliente, id_vaga, data_criacao, data_modificacao, criado_por, modificado_por
+    from clientes_tem_vagas_arquivo;
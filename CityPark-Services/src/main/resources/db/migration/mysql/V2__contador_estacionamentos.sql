@@ -0,0 +1,6 @@
+-- Contador de estacionamentos concluídos por cliente (desconto de fidelidade).
+alter table clientes add column estacionamentos_concluidos bigint default 0 not null;
+
+-- Carga inicial a partir dos check-outs já realizados; depois disso o check-out incrementa o contador.
+update clientes set estacionamentos_concluidos = (select count(*) from clientes_tem_vagas v
+    where v.id_cliente = clientes.id and v.data_saida is not null);
@@ -0,0 +1,8 @@
+-- Estacionamentos concluídos por cliente (contador e verificação de divergências).
+create index idx_cv_cliente_saida on clientes_tem_vagas (id_cliente, data_saida);
+
+-- Histórico por cliente ordenado por entrada (paginação e cursor); o InnoDB acrescenta o id à chave.
+create index idx_cv_cliente_entrada on clientes_tem_vagas (id_cliente, data_entrada);
+
+-- Carga e recarga periódica do bitmap de vagas livres (VagaAllocator) e consulta de reserva por status.
+create index idx_vagas_status on vagas (status);
@@ -0,0 +1,100 @@
+package com.devsolutions.CityParkServices;
+
+import com.devsolutions.CityParkServices.service.ArquivamentoService;
+import com.devsolutions.CityParkServices.web.dto.CursorPageableDto;
+import com.devsolutions.CityParkServices.web.dto.PageableDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+// lote de um registro para percorrer mais de um lote por execução
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "citypark.arquivamento.lote=1")
+@Sql(scripts = {"/sql/estacionamentos/estacionamentos-insert.sql",
+        "/sql/estacionamentos/estacionamentos-insert-concluidos.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ArquivamentoIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Autowired
+    ArquivamentoService arquivamentoService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void arquivar_ComConcluidosAntigos_MoverSomenteConcluidos() {
+        org.assertj.core.api.Assertions.assertThat(arquivamentoService.arquivar()).isEqualTo(2);
+        org.assertj.core.api.Assertions.assertThat(arquivamentoService.arquivar()).isEqualTo(0);
+
+        org.assertj.core.api.Assertions.assertThat(
+                jdbcTemplate.queryForObject("select count(*) from clientes_tem_vagas", Long.class)).isEqualTo(3L);
+        org.assertj.core.api.Assertions.assertThat(
+                jdbcTemplate.queryForObject("select count(*) from clientes_tem_vagas_arquivo", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    public void buscarEstacionamentos_ComArquivados_RetornarHistoricoCompleto() {
+        arquivamentoService.arquivar();
+
+        PageableDto responseBody = testClient.get()
+                .uri("/api/v1/estacionamentos/cpf/{cpf}?size=3&page=0", "59644826000")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PageableDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getContent().size()).isEqualTo(3);
+        org.assertj.core.api.Assertions.assertThat(responseBody.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    public void buscarEstacionamentosComCursor_ComArquivados_IntercalarTabelaQuenteEArquivo() {
+        arquivamentoService.arquivar();
+
+        CursorPageableDto responseBody = testClient.get()
+                .uri("/api/v1/estacionamentos/cpf/{cpf}/cursor?size=3&total=true", "59644826000")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageableDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getContent().size()).isEqualTo(3);
+        org.assertj.core.api.Assertions.assertThat(recibo(responseBody, 0)).isEqualTo("20230110-081500");
+        org.assertj.core.api.Assertions.assertThat(recibo(responseBody, 1)).isEqualTo("20230215-140000");
+        org.assertj.core.api.Assertions.assertThat(recibo(responseBody, 2)).isEqualTo("20240815-205221");
+        org.assertj.core.api.Assertions.assertThat(responseBody.isLast()).isFalse();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getTotalElements()).isEqualTo(4);
+
+        responseBody = testClient.get()
+                .uri("/api/v1/estacionamentos/cpf/{cpf}/cursor?size=3&cursor={cursor}", "59644826000",
+                        responseBody.getNextCursor())
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageableDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getContent().size()).isEqualTo(1);
+        org.assertj.core.api.Assertions.assertThat(recibo(responseBody, 0)).isEqualTo("20241016-134318");
+        org.assertj.core.api.Assertions.assertThat(responseBody.isLast()).isTrue();
+    }
+
+    private static Object recibo(CursorPageableDto page, int indice) {
+        return ((Map<?, ?>) page.getContent().get(indice)).get("recibo");
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.devsolutions.CityParkServices;
+
+import com.devsolutions.CityParkServices.entity.Cliente;
+import com.devsolutions.CityParkServices.service.ClienteService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * Única suíte com o cache de segundo nível ligado, como em produção: confirma que o {@code @NaturalIdCache} do
+ * cliente resolve a busca por CPF sem ir ao banco.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.jakarta.persistence.sharedCache.mode=ENABLE_SELECTIVE",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create"
+})
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ClienteCacheIT {
+
+    @Autowired
+    ClienteService clienteService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        // os scripts @Sql alteram as tabelas por fora do Hibernate
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void buscarPorCpf_SegundaBusca_NaoExecutarComandos() {
+        Cliente primeira = clienteService.buscarPorCpf("59644826000");
+        org.assertj.core.api.Assertions.assertThat(statistics.getPrepareStatementCount()).isPositive();
+
+        statistics.clear();
+        Cliente segunda = clienteService.buscarPorCpf("59644826000");
+
+        org.assertj.core.api.Assertions.assertThat(segunda.getId()).isEqualTo(primeira.getId());
+        org.assertj.core.api.Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+        org.assertj.core.api.Assertions.assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        org.assertj.core.api.Assertions.assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+}
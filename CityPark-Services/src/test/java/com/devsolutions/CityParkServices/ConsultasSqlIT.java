@@ -0,0 +1,83 @@
+package com.devsolutions.CityParkServices;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.function.Consumer;
+
+/**
+ * Garante o plano de busca de cada endpoint: o total de comandos SQL preparados pelo Hibernate durante a requisição.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ConsultasSqlIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Consumer<HttpHeaders> admin;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        admin = JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456");
+        statistics.clear();
+    }
+
+    @Test
+    public void buscarRecibo_ComClienteEVagaNoGrafo_ExecutarUmComando() {
+        testClient.get()
+                .uri("/api/v1/estacionamentos/check-in/{recibo}", "20240815-185217")
+                .headers(admin)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("clienteCpf").isEqualTo("94392380033")
+                .jsonPath("vagaCodigo").isEqualTo("A-01");
+
+        org.assertj.core.api.Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void criarCheckOut_ComClienteEVagaNoGrafo_ExecutarCincoComandos() {
+        testClient.put()
+                .uri("/api/v1/estacionamentos/check-out/{recibo}", "20240815-185217")
+                .headers(admin)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("clienteCpf").isEqualTo("94392380033")
+                .jsonPath("vagaCodigo").isEqualTo("A-01");
+
+        // recibo com cliente e vaga, incremento e leitura do contador, update do registro e da vaga
+        org.assertj.core.api.Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void buscarEstacionamentos_PorClienteCpf_ExecutarUmComando() {
+        testClient.get()
+                .uri("/api/v1/estacionamentos/cpf/{cpf}", "26753289011")
+                .headers(admin)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("content.length()").isEqualTo(1);
+
+        // a primeira página incompleta dispensa o count
+        org.assertj.core.api.Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+}
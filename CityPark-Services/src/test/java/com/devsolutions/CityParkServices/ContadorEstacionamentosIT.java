@@ -0,0 +1,62 @@
+package com.devsolutions.CityParkServices;
+
+import com.devsolutions.CityParkServices.repository.projection.ContadorDivergenteProjection;
+import com.devsolutions.CityParkServices.service.ContadorEstacionamentosService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ContadorEstacionamentosIT {
+
+    @Autowired
+    WebTestClient testClient;
+
+    @Autowired
+    ContadorEstacionamentosService contadorService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void criarCheckOut_ComReciboAberto_IncrementarContadorDoCliente() {
+        testClient.put()
+                .uri("/api/v1/estacionamentos/check-out/{recibo}", "20240816-005556")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk();
+
+        org.assertj.core.api.Assertions.assertThat(contador(33L)).isEqualTo(1L);
+        org.assertj.core.api.Assertions.assertThat(contadorService.verificar()).isEmpty();
+    }
+
+    @Test
+    public void verificar_ComContadorDivergente_RetornarClienteERecalcular() {
+        jdbcTemplate.update("update clientes set estacionamentos_concluidos = 7 where id = 33");
+
+        List<ContadorDivergenteProjection> divergentes = contadorService.verificar();
+
+        org.assertj.core.api.Assertions.assertThat(divergentes).hasSize(1);
+        org.assertj.core.api.Assertions.assertThat(divergentes.get(0).getCpf()).isEqualTo("26753289011");
+        org.assertj.core.api.Assertions.assertThat(divergentes.get(0).getContador()).isEqualTo(7L);
+        org.assertj.core.api.Assertions.assertThat(divergentes.get(0).getTotal()).isEqualTo(0L);
+
+        contadorService.recalcular();
+
+        org.assertj.core.api.Assertions.assertThat(contador(33L)).isEqualTo(0L);
+        org.assertj.core.api.Assertions.assertThat(contadorService.verificar()).isEmpty();
+    }
+
+    private Long contador(Long clienteId) {
+        return jdbcTemplate.queryForObject(
+                "select estacionamentos_concluidos from clientes where id = ?", Long.class, clienteId);
+    }
+
+}
@@ -1,16 +1,33 @@
 package com.devsolutions.CityParkServices;
 
+import com.devsolutions.CityParkServices.web.dto.CursorPageableDto;
 import com.devsolutions.CityParkServices.web.dto.EstacionamentoCreateDto;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoLoteCheckoutDto;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoLoteCreateDto;
+import com.devsolutions.CityParkServices.web.dto.EstacionamentoResponseDto;
 import com.devsolutions.CityParkServices.web.dto.PageableDto;
 import com.devsolutions.CityParkServices.web.exception.ErrorMessage;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
@@ -136,6 +153,115 @@ public class EstacionamentoIT {
 
     }
 
+    @Sql(scripts = "/sql/estacionamentos/estacionamentos-insert-vagas-livres.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @Test
+    public void criarCheckin_ComRequisicoesSimultaneas_RetornarVagasDistintas() throws Exception {
+        Consumer<HttpHeaders> authorization = JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456");
+        int totalRequisicoes = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<String>> resultados = new ArrayList<>();
+
+        for (int i = 0; i < totalRequisicoes; i++) {
+            EstacionamentoCreateDto createDto = EstacionamentoCreateDto.builder()
+                    .placa(String.format("ABC-%04d", i)).marca("RENOUT").modelo("CLIO 1.0")
+                    .cor("BRANCO").clienteCpf("94392380033")
+                    .build();
+            resultados.add(executor.submit(() -> {
+                largada.await();
+                FluxExchangeResult<EstacionamentoResponseDto> result = testClient.post().uri("/api/v1/estacionamentos/check-in")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .headers(authorization)
+                        .bodyValue(createDto)
+                        .exchange()
+                        .returnResult(EstacionamentoResponseDto.class);
+                return HttpStatus.CREATED.equals(result.getStatus())
+                        ? result.getResponseBody().blockFirst().getVagaCodigo()
+                        : null;
+            }));
+        }
+        largada.countDown();
+
+        List<String> vagasOcupadas = new ArrayList<>();
+        for (Future<String> resultado : resultados) {
+            String vagaCodigo = resultado.get(60, TimeUnit.SECONDS);
+            if (vagaCodigo != null) {
+                vagasOcupadas.add(vagaCodigo);
+            }
+        }
+        executor.shutdown();
+
+        org.assertj.core.api.Assertions.assertThat(vagasOcupadas).hasSize(totalRequisicoes);
+        org.assertj.core.api.Assertions.assertThat(new HashSet<>(vagasOcupadas)).hasSameSizeAs(vagasOcupadas);
+    }
+
+    @Test
+    public void criarCheckinEmLote_ComCpfInexistente_RetornarResultadoPorEntrada() {
+        EstacionamentoLoteCreateDto createDto = new EstacionamentoLoteCreateDto(List.of(
+                EstacionamentoCreateDto.builder()
+                        .placa("ABC-2222").marca("RENOUT").modelo("CLIO 1.0")
+                        .cor("BRANCO").clienteCpf("94392380033")
+                        .build(),
+                EstacionamentoCreateDto.builder()
+                        .placa("ABC-3333").marca("FIAT").modelo("UNO")
+                        .cor("PRETO").clienteCpf("89511085034")
+                        .build()
+        ));
+
+        testClient.post().uri("/api/v1/estacionamentos/check-in/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].status").isEqualTo(201)
+                .jsonPath("$[0].estacionamento.placa").isEqualTo("ABC-2222")
+                .jsonPath("$[0].estacionamento.clienteCpf").isEqualTo("94392380033")
+                .jsonPath("$[0].estacionamento.recibo").exists()
+                .jsonPath("$[0].estacionamento.vagaCodigo").exists()
+                .jsonPath("$[1].status").isEqualTo(404)
+                .jsonPath("$[1].mensagem").exists()
+                .jsonPath("$[1].estacionamento").doesNotExist();
+
+
+    }
+
+    @Test
+    public void criarCheckinEmLote_ComCpfRepetido_RetornarConflitoNaEntradaRepetida() {
+        EstacionamentoLoteCreateDto createDto = new EstacionamentoLoteCreateDto(List.of(
+                EstacionamentoCreateDto.builder()
+                        .placa("ABC-2222").marca("RENOUT").modelo("CLIO 1.0")
+                        .cor("BRANCO").clienteCpf("94392380033")
+                        .build(),
+                EstacionamentoCreateDto.builder()
+                        .placa("ABC-3333").marca("FIAT").modelo("UNO")
+                        .cor("PRETO").clienteCpf("94392380033")
+                        .build(),
+                EstacionamentoCreateDto.builder()
+                        .placa("ABC-4444").marca("FORD").modelo("KA")
+                        .cor("PRATA").clienteCpf("26753289011")
+                        .build()
+        ));
+
+        testClient.post().uri("/api/v1/estacionamentos/check-in/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .bodyValue(createDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].status").isEqualTo(201)
+                .jsonPath("$[1].status").isEqualTo(409)
+                .jsonPath("$[1].mensagem").exists()
+                .jsonPath("$[1].estacionamento").doesNotExist()
+                .jsonPath("$[2].status").isEqualTo(201)
+                .jsonPath("$[2].estacionamento.clienteCpf").isEqualTo("26753289011");
+    }
+
     @Test
     public void buscarCheckin_ComPerfilAdmin_RetornarDadosStatus200() {
 
@@ -198,6 +324,55 @@ public class EstacionamentoIT {
 
 
 
+    }
+
+    @Test
+    public void criarCheckOutEmLote_ComReciboInexistente_RetornarResultadoPorRecibo() {
+
+        testClient.put()
+                .uri("/api/v1/estacionamentos/check-out/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .bodyValue(new EstacionamentoLoteCheckoutDto(List.of("20240815-205221", "20240816-005556", "20240815-111111")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].status").isEqualTo(200)
+                .jsonPath("$[0].estacionamento.recibo").isEqualTo("20240815-205221")
+                .jsonPath("$[0].estacionamento.dataSaida").exists()
+                .jsonPath("$[0].estacionamento.valor").exists()
+                .jsonPath("$[0].estacionamento.desconto").exists()
+                .jsonPath("$[1].status").isEqualTo(200)
+                .jsonPath("$[1].estacionamento.recibo").isEqualTo("20240816-005556")
+                .jsonPath("$[2].status").isEqualTo(404)
+                .jsonPath("$[2].mensagem").exists();
+
+
+    }
+
+    @Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql",
+            statements = "update clientes set estacionamentos_concluidos = 4 where id = 32",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @Test
+    public void criarCheckOutEmLote_ComQuintoEstacionamentoNoLote_AplicarDescontoSomenteNoQuinto() {
+
+        testClient.put()
+                .uri("/api/v1/estacionamentos/check-out/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .bodyValue(new EstacionamentoLoteCheckoutDto(List.of("20240815-205221", "20241016-134318")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].status").isEqualTo(200)
+                .jsonPath("$[0].estacionamento.desconto").value(desconto ->
+                        org.assertj.core.api.Assertions.assertThat(new BigDecimal(desconto.toString())).isZero())
+                .jsonPath("$[1].status").isEqualTo(200)
+                .jsonPath("$[1].estacionamento.desconto").value(desconto ->
+                        org.assertj.core.api.Assertions.assertThat(new BigDecimal(desconto.toString())).isPositive());
     }
 
     @Test
@@ -263,6 +438,86 @@ public class EstacionamentoIT {
 
 
 
+    }
+
+    @Test
+    public void buscarEstacionamentos_PorClienteCpfComCursor_RetornarPaginasSequenciais() {
+
+        CursorPageableDto responseBody = testClient.get()
+                .uri("/api/v1/estacionamentos/cpf/{cpf}/cursor?size=1&total=true", "59644826000")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageableDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getContent().size()).isEqualTo(1);
+        org.assertj.core.api.Assertions.assertThat(responseBody.isLast()).isFalse();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getNextCursor()).isNotBlank();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getTotalElements()).isEqualTo(2L);
+
+        responseBody = testClient.get()
+                .uri("/api/v1/estacionamentos/cpf/{cpf}/cursor?size=1&cursor={cursor}", "59644826000",
+                        responseBody.getNextCursor())
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageableDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getContent().size()).isEqualTo(1);
+        org.assertj.core.api.Assertions.assertThat(responseBody.isLast()).isTrue();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getNextCursor()).isNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getTotalElements()).isNull();
+
+    }
+
+    @Test
+    public void buscarEstacionamentos_PorClienteCpfComCursorInvalido_RetornarErrorStatus400() {
+
+        testClient.get()
+                .uri("/api/v1/estacionamentos/cpf/{cpf}/cursor?cursor=invalido", "59644826000")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("status").isEqualTo("400")
+                .jsonPath("method").isEqualTo("GET");
+
+    }
+
+    @Test
+    public void exportarEstacionamentos_PorClienteCpf_RetornarUmaLinhaPorRegistro() {
+
+        String ndjson = testClient.get()
+                .uri("/api/v1/estacionamentos/exportacao?cpf={cpf}", "59644826000")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(ndjson).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(ndjson.lines().toList()).hasSize(2)
+                .allMatch(linha -> linha.contains("\"clienteCpf\":\"59644826000\""));
+        org.assertj.core.api.Assertions.assertThat(ndjson).contains("\"dataEntrada\":\"2024-08-15 17:52:21\"");
+
+        String csv = testClient.get()
+                .uri("/api/v1/estacionamentos/exportacao?cpf={cpf}&formato=CSV", "59644826000")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(csv).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(csv.lines().toList()).hasSize(3)
+                .first().asString().startsWith("placa,marca,modelo,cor,clienteCpf");
+        org.assertj.core.api.Assertions.assertThat(csv).contains(",2024-08-15 17:52:21,");
+
     }
 
     @Test
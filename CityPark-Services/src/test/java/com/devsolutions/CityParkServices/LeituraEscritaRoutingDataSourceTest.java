@@ -0,0 +1,132 @@
+package com.devsolutions.CityParkServices;
+
+import com.devsolutions.CityParkServices.datasource.JanelaLeituraPropria;
+import com.devsolutions.CityParkServices.datasource.LeituraEscritaRoutingDataSource;
+import com.devsolutions.CityParkServices.jwt.JwtUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Primário e réplica são dois bancos H2 em memória; cada um responde com o próprio nome na tabela {@code origem}.
+ */
+public class LeituraEscritaRoutingDataSourceTest {
+
+    private static final Duration JANELA = Duration.ofSeconds(5);
+
+    private final AtomicLong relogio = new AtomicLong();
+
+    private DataSource primario;
+    private DataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    public void setUp() {
+        primario = criarBanco("primario");
+        replica = criarBanco("replica");
+
+        JanelaLeituraPropria janela = new JanelaLeituraPropria(JANELA, relogio::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new LeituraEscritaRoutingDataSource(primario, replica, janela));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(janela);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primario).execute("drop table origem");
+        new JdbcTemplate(replica).execute("drop table origem");
+    }
+
+    @Test
+    public void rotear_PorTipoDeTransacao_LeituraNaReplicaEscritaNoPrimario() {
+        autenticar(19L);
+
+        org.assertj.core.api.Assertions.assertThat(lerOrigem(leitura)).isEqualTo("replica");
+        org.assertj.core.api.Assertions.assertThat(lerOrigem(escrita)).isEqualTo("primario");
+        org.assertj.core.api.Assertions.assertThat(jdbcTemplate.queryForObject("select nome from origem", String.class))
+                .isEqualTo("primario");
+    }
+
+    @Test
+    public void rotear_AposEscritaDoUsuario_LerDoPrimarioAteOFimDaJanela() {
+        autenticar(19L);
+        escrever();
+
+        org.assertj.core.api.Assertions.assertThat(lerOrigem(leitura)).isEqualTo("primario");
+
+        autenticar(20L);
+        org.assertj.core.api.Assertions.assertThat(lerOrigem(leitura)).isEqualTo("replica");
+
+        autenticar(19L);
+        relogio.addAndGet(JANELA.plusMillis(1).toNanos());
+        org.assertj.core.api.Assertions.assertThat(lerOrigem(leitura)).isEqualTo("replica");
+    }
+
+    @Test
+    public void rotear_AposEscritaDesfeita_LerDaReplica() {
+        autenticar(19L);
+        escrita.executeWithoutResult(status -> {
+            jdbcTemplate.update("update origem set nome = nome");
+            status.setRollbackOnly();
+        });
+
+        org.assertj.core.api.Assertions.assertThat(lerOrigem(leitura)).isEqualTo("replica");
+    }
+
+    @Test
+    public void registrar_SemReplicaConfigurada_NaoExigirPrimario() {
+        JanelaLeituraPropria janela = new JanelaLeituraPropria("", JANELA);
+        autenticar(19L);
+
+        janela.registrar(19L);
+        janela.afterCommit(new SimpleTransactionStatus(), null);
+
+        org.assertj.core.api.Assertions.assertThat(janela.exigePrimario()).isFalse();
+    }
+
+    private static DataSource criarBanco(String nome) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + nome + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table origem (nome varchar(10))");
+        template.update("insert into origem (nome) values (?)", nome);
+        return dataSource;
+    }
+
+    private static void autenticar(Long usuarioId) {
+        JwtUserDetails userDetails = new JwtUserDetails(usuarioId, "usuario" + usuarioId + "@email.com", "",
+                "ROLE_CLIENTE");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private void escrever() {
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("update origem set nome = nome"));
+    }
+
+    private String lerOrigem(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("select nome from origem", String.class));
+    }
+
+}
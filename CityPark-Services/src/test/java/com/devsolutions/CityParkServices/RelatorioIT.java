@@ -0,0 +1,167 @@
+package com.devsolutions.CityParkServices;
+
+import com.devsolutions.CityParkServices.web.dto.RelatorioJobDto;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/estacionamentos/estacionamentos-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class RelatorioIT {
+
+    private static final Duration ESPERA_MAXIMA = Duration.ofSeconds(30);
+
+    @Autowired
+    WebTestClient testClient;
+
+    @SpyBean
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void solicitarRelatorio_ComClienteCadastrado_RetornarAcceptedEGerarPdf() throws InterruptedException {
+        EntityExchangeResult<RelatorioJobDto> solicitacao = testClient.post()
+                .uri("/api/v1/estacionamentos/relatorios")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "leonelmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().exists(HttpHeaders.LOCATION)
+                .expectBody(RelatorioJobDto.class)
+                .returnResult();
+
+        RelatorioJobDto job = solicitacao.getResponseBody();
+        URI location = solicitacao.getResponseHeaders().getLocation();
+        org.assertj.core.api.Assertions.assertThat(job).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(job.getId()).isNotBlank();
+        org.assertj.core.api.Assertions.assertThat(location.getPath())
+                .isEqualTo("/api/v1/estacionamentos/relatorios/" + job.getId());
+
+        RelatorioJobDto concluido = aguardarConclusao(job.getId());
+        org.assertj.core.api.Assertions.assertThat(concluido.getStatus()).isEqualTo("CONCLUIDO");
+
+        byte[] pdf = testClient.get()
+                .uri("/api/v1/estacionamentos/relatorios/{id}/pdf", job.getId())
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "leonelmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_PDF)
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(pdf).isNotEmpty();
+        org.assertj.core.api.Assertions.assertThat(new String(pdf, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("%PDF");
+    }
+
+    @Test
+    public void solicitarRelatorio_ComFalhaNaGeracao_RetornarJobComStatusFalha() throws InterruptedException {
+        Consumer<HttpHeaders> autorizacao =
+                JwtAuthentication.getHeaderAuthorization(testClient, "leonelmaster@email.com", "123456");
+        Mockito.doThrow(new DataAccessResourceFailureException("Banco indisponível"))
+                .when(jdbcTemplate).execute(Mockito.any(ConnectionCallback.class));
+
+        RelatorioJobDto job = testClient.post()
+                .uri("/api/v1/estacionamentos/relatorios")
+                .headers(autorizacao)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(RelatorioJobDto.class)
+                .returnResult().getResponseBody();
+
+        RelatorioJobDto falha = aguardarConclusao(job.getId());
+        org.assertj.core.api.Assertions.assertThat(falha.getStatus()).isEqualTo("FALHA");
+        org.assertj.core.api.Assertions.assertThat(falha.getMensagem()).isEqualTo("Falha ao gerar o relatório");
+
+        testClient.get()
+                .uri("/api/v1/estacionamentos/relatorios/{id}/pdf", job.getId())
+                .headers(autorizacao)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("status").isEqualTo("404");
+    }
+
+    @Test
+    public void buscarRelatorio_DeOutroCliente_RetornarErrorStatus404() {
+        RelatorioJobDto job = testClient.post()
+                .uri("/api/v1/estacionamentos/relatorios")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "leonelmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(RelatorioJobDto.class)
+                .returnResult().getResponseBody();
+
+        testClient.get()
+                .uri("/api/v1/estacionamentos/relatorios/{id}", job.getId())
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "starmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("status").isEqualTo("404")
+                .jsonPath("method").isEqualTo("GET");
+
+        testClient.get()
+                .uri("/api/v1/estacionamentos/relatorios/{id}/pdf", job.getId())
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "starmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void buscarRelatorio_ComIdInexistente_RetornarErrorStatus404() {
+        testClient.get()
+                .uri("/api/v1/estacionamentos/relatorios/{id}", "inexistente")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "leonelmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("status").isEqualTo("404");
+    }
+
+    @Test
+    public void solicitarRelatorio_ComUsuarioAdmin_RetornarErrorStatus403() {
+        testClient.post()
+                .uri("/api/v1/estacionamentos/relatorios")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("status").isEqualTo("403")
+                .jsonPath("method").isEqualTo("POST");
+    }
+
+    private RelatorioJobDto aguardarConclusao(String id) throws InterruptedException {
+        Instant limite = Instant.now().plus(ESPERA_MAXIMA);
+        RelatorioJobDto job;
+        do {
+            job = testClient.get()
+                    .uri("/api/v1/estacionamentos/relatorios/{id}", id)
+                    .headers(JwtAuthentication.getHeaderAuthorization(testClient, "leonelmaster@email.com", "123456"))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(RelatorioJobDto.class)
+                    .returnResult().getResponseBody();
+            if (!"PENDENTE".equals(job.getStatus()) && !"PROCESSANDO".equals(job.getStatus())) {
+                return job;
+            }
+            Thread.sleep(200);
+        } while (Instant.now().isBefore(limite));
+        return job;
+    }
+
+}
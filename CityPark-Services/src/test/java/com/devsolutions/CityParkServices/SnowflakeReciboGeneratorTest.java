@@ -0,0 +1,68 @@
+package com.devsolutions.CityParkServices;
+
+import com.devsolutions.CityParkServices.util.ReciboGenerator;
+import com.devsolutions.CityParkServices.util.SnowflakeReciboGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class SnowflakeReciboGeneratorTest {
+
+    @Test
+    public void gerarRecibo_ComVariasThreads_RetornarRecibosUnicos() throws Exception {
+        ReciboGenerator generator = new SnowflakeReciboGenerator(1);
+        int totalThreads = 8;
+        int recibosPorThread = 100_000;
+        Set<String> recibos = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(totalThreads);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Void>> tarefas = new ArrayList<>();
+
+        for (int i = 0; i < totalThreads; i++) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                for (int j = 0; j < recibosPorThread; j++) {
+                    recibos.add(generator.gerarRecibo());
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<Void> tarefa : tarefas) {
+            tarefa.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        org.assertj.core.api.Assertions.assertThat(recibos).hasSize(totalThreads * recibosPorThread);
+    }
+
+    @Test
+    public void gerarRecibo_EmSequencia_RetornarRecibosCrescentesDentroDaColuna() {
+        ReciboGenerator generator = new SnowflakeReciboGenerator(1023);
+        String anterior = generator.gerarRecibo();
+
+        for (int i = 0; i < 50_000; i++) {
+            String recibo = generator.gerarRecibo();
+            org.assertj.core.api.Assertions.assertThat(recibo).hasSizeLessThanOrEqualTo(15);
+            org.assertj.core.api.Assertions.assertThat(recibo).isGreaterThan(anterior);
+            anterior = recibo;
+        }
+    }
+
+    @Test
+    public void gerarRecibo_ComNosDiferentes_RetornarRecibosDistintos() {
+        String recibo = new SnowflakeReciboGenerator(1).gerarRecibo();
+        String outroRecibo = new SnowflakeReciboGenerator(2).gerarRecibo();
+
+        org.assertj.core.api.Assertions.assertThat(recibo).isNotEqualTo(outroRecibo);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.devsolutions.CityParkServices;
+
+import com.devsolutions.CityParkServices.util.TarifaEngine;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class TarifaEngineTest {
+
+    private final TarifaEngine tarifa = new TarifaEngine(15, 500, 60, 925, 15, 175, 0, 30, 5);
+
+    @Test
+    public void calcularCustoCentavos_TabelaPadrao_RetornarValoresDaTabela() {
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularCustoCentavos(0)).isEqualTo(500);
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularCustoCentavos(15)).isEqualTo(500);
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularCustoCentavos(16)).isEqualTo(925);
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularCustoCentavos(60)).isEqualTo(925);
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularCustoCentavos(61)).isEqualTo(1100);
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularCustoCentavos(75)).isEqualTo(1100);
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularCustoCentavos(76)).isEqualTo(1275);
+    }
+
+    @Test
+    public void calcularDescontoCentavos_ACadaQuintoEstacionamento_ArredondarMetadeParaBaixo() {
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularDescontoCentavos(925, 4)).isZero();
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularDescontoCentavos(925, 0)).isZero();
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularDescontoCentavos(925, 5)).isEqualTo(277);
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularDescontoCentavos(1275, 10)).isEqualTo(382);
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularDescontoCentavos(500, 5)).isEqualTo(150);
+    }
+
+    @Test
+    public void calcularCustoCentavos_ComTetoDiario_LimitarCadaDia() {
+        TarifaEngine comTeto = new TarifaEngine(15, 500, 60, 925, 15, 175, 5000, 30, 5);
+
+        org.assertj.core.api.Assertions.assertThat(comTeto.calcularCustoCentavos(120)).isEqualTo(1625);
+        org.assertj.core.api.Assertions.assertThat(comTeto.calcularCustoCentavos(24 * 60)).isEqualTo(5000);
+        org.assertj.core.api.Assertions.assertThat(comTeto.calcularCustoCentavos(24 * 60 + 10)).isEqualTo(5500);
+    }
+
+    @Test
+    public void calcularCusto_NaBorda_RetornarBigDecimalComDuasCasas() {
+        LocalDateTime entrada = LocalDateTime.of(2024, 8, 15, 17, 52, 21);
+
+        BigDecimal custo = tarifa.calcularCusto(entrada, entrada.plusMinutes(90));
+
+        org.assertj.core.api.Assertions.assertThat(custo).isEqualTo(new BigDecimal("12.75"));
+        org.assertj.core.api.Assertions.assertThat(tarifa.calcularDesconto(custo, 5)).isEqualTo(new BigDecimal("3.82"));
+    }
+
+}
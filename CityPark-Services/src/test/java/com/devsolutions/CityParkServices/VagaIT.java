@@ -1,6 +1,7 @@
 package com.devsolutions.CityParkServices;
 
 import com.devsolutions.CityParkServices.web.dto.VagaCreateDto;
+import com.devsolutions.CityParkServices.web.dto.VagaLoteCreateDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,6 +10,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(scripts = "/sql/vagas/vagas-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(scripts = "/sql/vagas/vagas-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
@@ -118,6 +121,68 @@ public class VagaIT {
                 .jsonPath("path").isEqualTo("/api/v1/vagas/A-10");
     }
 
+
+    @Test
+    public void criarVagasEmLote_ComFaixaECodigoExistente_RetornarResultadoPorCodigo() {
+        testClient
+                .post()
+                .uri("/api/v1/vagas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .bodyValue(new VagaLoteCreateDto(List.of("B-01..B-03"), List.of("A-01", "B-02"), "LIVRE"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(5)
+                .jsonPath("[0].codigo").isEqualTo("B-01")
+                .jsonPath("[0].status").isEqualTo(201)
+                .jsonPath("[2].codigo").isEqualTo("B-03")
+                .jsonPath("[2].status").isEqualTo(201)
+                .jsonPath("[3].codigo").isEqualTo("A-01")
+                .jsonPath("[3].status").isEqualTo(409)
+                .jsonPath("[4].codigo").isEqualTo("B-02")
+                .jsonPath("[4].status").isEqualTo(409);
+
+        testClient
+                .get()
+                .uri("/api/v1/vagas/B-03")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("status").isEqualTo("LIVRE");
+    }
+
+    @Test
+    public void criarVagasEmLote_ComFaixaInvalida_RetornarErrorMessageComStatus422() {
+        testClient
+                .post()
+                .uri("/api/v1/vagas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .bodyValue(new VagaLoteCreateDto(List.of("B-09..C-10"), List.of(), "LIVRE"))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("status").isEqualTo(422)
+                .jsonPath("path").isEqualTo("/api/v1/vagas/batch");
+    }
+
+    @Test
+    public void criarVagasEmLote_ComStatusNulo_RetornarErrorMessageComStatus422() {
+        testClient
+                .post()
+                .uri("/api/v1/vagas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .bodyValue(new VagaLoteCreateDto(List.of(), List.of("B-01"), null))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("status").isEqualTo(422)
+                .jsonPath("path").isEqualTo("/api/v1/vagas/batch");
+    }
+
 }
 
 
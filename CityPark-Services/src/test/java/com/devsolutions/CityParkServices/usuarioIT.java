@@ -1,5 +1,7 @@
 package com.devsolutions.CityParkServices;
 
+import com.devsolutions.CityParkServices.web.dto.CursorPageableDto;
+import com.devsolutions.CityParkServices.web.dto.PageableDto;
 import com.devsolutions.CityParkServices.web.dto.UsuarioCreateDto;
 import com.devsolutions.CityParkServices.web.dto.UsuarioResponseDto;
 import com.devsolutions.CityParkServices.web.dto.UsuarioSenhaDto;
@@ -11,6 +13,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(scripts = "/sql/usuarios/usuarios-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(scripts = "/sql/usuarios/usuarios-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
@@ -372,4 +376,98 @@ public class usuarioIT {
         org.assertj.core.api.Assertions.assertThat(responseBody.getStatus()).isEqualTo(400);
     }
 
+
+    @Test
+    public void listarUsuarios_PeloAdmin_RetornarListaComStatus200() {
+        List<UsuarioResponseDto> responseBody = testClient
+                .get()
+                .uri("/api/v1/usuarios")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(UsuarioResponseDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.size()).isEqualTo(3);
+        org.assertj.core.api.Assertions.assertThat(responseBody.get(0).getUsername()).isEqualTo("noobmaster@email.com");
+        org.assertj.core.api.Assertions.assertThat(responseBody.get(0).getRole()).isEqualTo("ADMIN");
+    }
+
+    @Test
+    public void listarUsuarios_ComPaginacaoPeloAdmin_RetornarUsuariosComStatus200() {
+        PageableDto responseBody = testClient
+                .get()
+                .uri("/api/v1/usuarios/paginado?size=2")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PageableDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getContent().size()).isEqualTo(2);
+        org.assertj.core.api.Assertions.assertThat(responseBody.getTotalElements()).isEqualTo(3);
+        org.assertj.core.api.Assertions.assertThat(responseBody.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    public void listarUsuarios_ComPaginacaoOrdenadaPorPassword_RetornarErrorMessageComStatus400() {
+        ErrorMessage responseBody = testClient
+                .get()
+                .uri("/api/v1/usuarios/paginado?sort=password,asc")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorMessage.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    public void listarUsuarios_ComCursorPeloAdmin_RetornarProximaPaginaComStatus200() {
+        CursorPageableDto responseBody = testClient
+                .get()
+                .uri("/api/v1/usuarios/cursor?size=2")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageableDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getContent().size()).isEqualTo(2);
+        org.assertj.core.api.Assertions.assertThat(responseBody.isLast()).isFalse();
+
+        responseBody = testClient
+                .get()
+                .uri("/api/v1/usuarios/cursor?size=2&cursor=" + responseBody.getNextCursor())
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "noobmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageableDto.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getContent().size()).isEqualTo(1);
+        org.assertj.core.api.Assertions.assertThat(responseBody.isLast()).isTrue();
+    }
+
+    @Test
+    public void listarUsuarios_ComUsuarioCliente_RetornarErrorMessageComStatus403() {
+        ErrorMessage responseBody = testClient
+                .get()
+                .uri("/api/v1/usuarios")
+                .headers(JwtAuthentication.getHeaderAuthorization(testClient, "starmaster@email.com", "123456"))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody(ErrorMessage.class)
+                .returnResult().getResponseBody();
+
+        org.assertj.core.api.Assertions.assertThat(responseBody).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(responseBody.getStatus()).isEqualTo(403);
+    }
+
 }
@@ -1,3 +1,4 @@
+DELETE FROM CLIENTES_TEM_VAGAS_ARQUIVO;
 DELETE FROM CLIENTES_TEM_VAGAS;
 DELETE FROM CLIENTES;
 DELETE FROM VAGAS;
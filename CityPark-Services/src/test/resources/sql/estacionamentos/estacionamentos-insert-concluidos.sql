@@ -0,0 +1,4 @@
+insert into clientes_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, data_saida, valor, desconto, id_cliente, id_vaga)
+    values ('20230110-081500', 'ABC-0002', 'VOLKSWAGEN', 'BRASÍLIA', 'AMARELA', '2023-01-10 08:15:00', '2023-01-10 10:15:00', 23.50, 0.00, 32, 6);
+insert into clientes_tem_vagas (numero_recibo, placa, marca, modelo, cor, data_entrada, data_saida, valor, desconto, id_cliente, id_vaga)
+    values ('20230215-140000', 'ABC-0002', 'VOLKSWAGEN', 'BRASÍLIA', 'AMARELA', '2023-02-15 14:00:00', '2023-02-15 14:30:00', 8.50, 0.00, 32, 8);
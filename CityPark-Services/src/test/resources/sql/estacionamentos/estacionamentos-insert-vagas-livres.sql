@@ -0,0 +1,9 @@
+insert into USUARIOS (id, username, password, role)
+    values (18, 'noobmaster@email.com', '$2a$12$fxK72wEyg70X/3.hcQZa.uqNTkhtJ.OeGu4frbwkHJB3.9JobITvy', 'ROLE_ADMIN');
+insert into USUARIOS (id, username, password, role)
+    values (19, 'starmaster@email.com', '$2a$12$fxK72wEyg70X/3.hcQZa.uqNTkhtJ.OeGu4frbwkHJB3.9JobITvy', 'ROLE_CLIENTE');
+
+insert into CLIENTES (id, nome, cpf, id_usuario) values (27, 'Star Master', '94392380033', 19);
+
+insert into vagas (id, codigo, status)
+    select x, concat('C', x), 'LIVRE' from system_range(100, 399);